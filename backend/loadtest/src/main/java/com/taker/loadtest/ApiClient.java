@@ -0,0 +1,95 @@
+package com.taker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON client over {@link HttpClient}. Every call is timed and recorded under a step name
+ * (e.g. "GET /api/tasks") in {@link Metrics}; non-2xx answers count as errors and are thrown.
+ */
+public final class ApiClient {
+
+    static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final Metrics metrics;
+
+    public ApiClient(URI baseUrl, Duration timeout, Metrics metrics) {
+        this.http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.metrics = metrics;
+    }
+
+    public JsonNode get(String step, String path, String token) throws IOException, InterruptedException {
+        return send(step, request(path, token).GET());
+    }
+
+    public JsonNode post(String step, String path, String token, Object body) throws IOException, InterruptedException {
+        return send(step, request(path, token).POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body))));
+    }
+
+    public JsonNode patch(String step, String path, String token, Object body) throws IOException, InterruptedException {
+        return send(step, request(path, token).method("PATCH", HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body))));
+    }
+
+    /** Logs in and returns the bearer token. */
+    public String login(String step, String email, String password) throws IOException, InterruptedException {
+        JsonNode body = post(step, "/api/auth/login", null, java.util.Map.of("email", email, "password", password));
+        String token = body.path("data").path("token").asText("");
+        if (token.isEmpty()) throw new IOException("Login for " + email + " returned no token");
+        return token;
+    }
+
+    /** True once GET /api/health answers 2xx; used while waiting for a booted backend. */
+    public boolean isUp() {
+        try {
+            HttpResponse<Void> res = http.send(HttpRequest.newBuilder(baseUrl.resolve("/api/health"))
+                    .timeout(Duration.ofSeconds(2)).GET().build(), HttpResponse.BodyHandlers.discarding());
+            return res.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        return b;
+    }
+
+    private JsonNode send(String step, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            HttpResponse<byte[]> res = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            status = res.statusCode();
+            if (status / 100 != 2) {
+                throw new IOException(step + " answered " + status);
+            }
+            byte[] body = res.body();
+            return body.length == 0 ? JSON.nullNode() : JSON.readTree(body);
+        } finally {
+            metrics.recordRequest(step, System.nanoTime() - start, status);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taker.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the backend jar (or any backend command, e.g. the native binary) as a child process (output to backend.log
+ * next to the summary) and waits until /api/health answers; {@link #close()} stops it. The backend uses its normal configuration, i.e. the local Postgres
+ * from application.yml unless overridden with --boot-args (e.g. "--spring.profiles.active=local").
+ */
+final class BackendProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+    private Duration upAfter = Duration.ZERO;
+
+    private BackendProcess(Process process) {
+        this.process = process;
+    }
+
+    static BackendProcess start(Path jar, List<String> extraArgs, Path logFile, ApiClient api) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--spring.jpa.show-sql=false");
+        command.addAll(extraArgs);
+        return start(command, logFile, api);
+    }
+
+    /** Runs any backend command line (e.g. the native binary) and waits until it is healthy. */
+    static BackendProcess start(List<String> command, Path logFile, ApiClient api) throws IOException, InterruptedException {
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        BackendProcess backend = new BackendProcess(process);
+        long deadline = started + STARTUP_TIMEOUT.toNanos();
+        while (!api.isUp()) {
+            if (!process.isAlive()) {
+                throw new IOException("Backend exited with code " + process.exitValue() + "; see " + logFile);
+            }
+            if (System.nanoTime() > deadline) {
+                backend.close();
+                throw new IOException("Backend did not become healthy within " + STARTUP_TIMEOUT.toSeconds() + " s; see " + logFile);
+            }
+            Thread.sleep(50);
+        }
+        backend.upAfter = Duration.ofNanos(System.nanoTime() - started);
+        System.out.printf("Backend up in %.1f s (log: %s)%n", backend.upAfter.toMillis() / 1000.0, logFile);
+        return backend;
+    }
+
+    /** Time from process start until /api/health first answered. */
+    Duration upAfter() {
+        return upAfter;
+    }
+
+    /** Resident set size in KiB from /proc (Linux only), or -1 when unavailable. */
+    long rssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux or the process is gone
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, java.util.concurrent.TimeUnit.SECONDS)) process.destroyForcibly();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
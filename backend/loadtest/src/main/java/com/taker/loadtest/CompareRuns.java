@@ -0,0 +1,96 @@
+package com.taker.loadtest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Puts two load test summaries side by side: achieved rate, drops and, per scenario and request step, errors and
+ * p50/p99/p999 of each run plus the p99 ratio (second / first). Used by {@code compareThreadModes} to compare
+ * the backend on platform threads with virtual threads.
+ * <p>
+ * Usage: {@code CompareRuns <labelA>=<summaryA.json> <labelB>=<summaryB.json> [<out.json>]}.
+ */
+public final class CompareRuns {
+
+    private CompareRuns() {}
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) throw new IllegalArgumentException("Usage: CompareRuns a=summaryA.json b=summaryB.json [out.json]");
+        String[] a = args[0].split("=", 2);
+        String[] b = args[1].split("=", 2);
+        Map<String, Object> first = ApiClient.JSON.readValue(Path.of(a[1]).toFile(), Map.class);
+        Map<String, Object> second = ApiClient.JSON.readValue(Path.of(b[1]).toFile(), Map.class);
+        Map<String, Object> comparison = compare(a[0], first, b[0], second);
+        printTable(a[0], b[0], comparison);
+        if (args.length > 2) {
+            Path out = Path.of(args[2]).toAbsolutePath();
+            Files.createDirectories(out.getParent());
+            ApiClient.JSON.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), comparison);
+            System.out.println("Comparison written to " + out);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> compare(String labelA, Map<String, Object> a, String labelB, Map<String, Object> b) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("runs", List.of(labelA, labelB));
+        for (String key : List.of("achievedRatePerSecond", "dropped")) {
+            Map<String, Object> pair = new LinkedHashMap<>();
+            pair.put(labelA, a.get(key));
+            pair.put(labelB, b.get(key));
+            out.put(key, pair);
+        }
+        for (String section : List.of("scenarios", "requests")) {
+            Map<String, Map<String, Object>> left = (Map<String, Map<String, Object>>) a.getOrDefault(section, Map.of());
+            Map<String, Map<String, Object>> right = (Map<String, Map<String, Object>>) b.getOrDefault(section, Map.of());
+            Map<String, Object> rows = new LinkedHashMap<>();
+            for (String name : new TreeSet<>(left.keySet())) {
+                if (!right.containsKey(name)) continue;
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put(labelA, pick(left.get(name)));
+                row.put(labelB, pick(right.get(name)));
+                double p99a = number(left.get(name).get("p99Ms"));
+                double p99b = number(right.get(name).get("p99Ms"));
+                row.put("p99Ratio", p99a > 0 ? Math.round(p99b / p99a * 100.0) / 100.0 : null);
+                rows.put(name, row);
+            }
+            out.put(section, rows);
+        }
+        return out;
+    }
+
+    private static Map<String, Object> pick(Map<String, Object> m) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (String key : List.of("count", "errors", "p50Ms", "p99Ms", "p999Ms")) {
+            out.put(key, m.get(key));
+        }
+        return out;
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(String labelA, String labelB, Map<String, Object> comparison) {
+        Map<String, Object> rate = (Map<String, Object>) comparison.get("achievedRatePerSecond");
+        Map<String, Object> dropped = (Map<String, Object>) comparison.get("dropped");
+        System.out.printf("%nachieved/s  %s %s, %s %s; dropped  %s %s, %s %s%n", labelA, rate.get(labelA), labelB,
+                rate.get(labelB), labelA, dropped.get(labelA), labelB, dropped.get(labelB));
+        for (String section : List.of("scenarios", "requests")) {
+            System.out.printf("%n%-36s %-9s %7s %9s %9s %9s %8s%n", section, "run", "errors", "p50 ms", "p99 ms", "p999 ms", "p99 b/a");
+            ((Map<String, Map<String, Object>>) comparison.get(section)).forEach((name, row) -> {
+                for (String label : List.of(labelA, labelB)) {
+                    Map<String, Object> m = (Map<String, Object>) row.get(label);
+                    System.out.printf("%-36s %-9s %7s %9s %9s %9s %8s%n", label.equals(labelA) ? name : "", label,
+                            m.get("errors"), m.get("p50Ms"), m.get("p99Ms"), m.get("p999Ms"),
+                            label.equals(labelB) ? row.get("p99Ratio") : "");
+                }
+            });
+        }
+    }
+}
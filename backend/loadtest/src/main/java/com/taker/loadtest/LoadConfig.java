@@ -0,0 +1,97 @@
+package com.taker.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/** Command-line options ({@code --key=value}); every option has a default suited to a laptop run against demo data. */
+public final class LoadConfig {
+
+    /** Demo users created by the backend's DataLoader. */
+    static final Map<String, String> DEFAULT_CREDENTIALS = Map.of(
+            "admin", "mdhanushraju03@gmail.com:Dhanush@03",
+            "manager", "manager@taker.com:Password@1",
+            "leader", "leader@taker.com:Password@1",
+            "member", "member@taker.com:Password@1");
+
+    static final String DEFAULT_MIX = "member-board=6,leader-assign=2,admin-dashboard=1,login=1";
+
+    final URI baseUrl;
+    final Path bootJar;
+    final Path nativeBinary;
+    final List<String> bootArgs;
+    final double ratePerSecond;
+    final Duration duration;
+    final Duration warmup;
+    final Map<String, Integer> mix;
+    final Map<String, String[]> credentials;
+    final Path out;
+    final int maxInFlight;
+    final Duration requestTimeout;
+    final long seed;
+
+    private LoadConfig(Map<String, String> o) {
+        this.baseUrl = URI.create(strip(o.getOrDefault("base-url", "http://localhost:8080")));
+        this.bootJar = o.containsKey("boot") ? Path.of(o.get("boot")) : null;
+        this.nativeBinary = o.containsKey("native") ? Path.of(o.get("native")) : null;
+        this.bootArgs = o.containsKey("boot-args") ? List.of(o.get("boot-args").trim().split("\\s+")) : List.of();
+        this.ratePerSecond = Double.parseDouble(o.getOrDefault("rate", "50"));
+        this.duration = Duration.ofSeconds(Long.parseLong(o.getOrDefault("duration", "60")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(o.getOrDefault("warmup", "10")));
+        this.mix = parseMix(o.getOrDefault("mix", DEFAULT_MIX));
+        Map<String, String[]> creds = new HashMap<>();
+        for (String role : DEFAULT_CREDENTIALS.keySet()) {
+            String value = o.getOrDefault(role, DEFAULT_CREDENTIALS.get(role));
+            int colon = value.indexOf(':');
+            if (colon < 1) throw new IllegalArgumentException("--" + role + " must be email:password");
+            creds.put(role, new String[]{value.substring(0, colon), value.substring(colon + 1)});
+        }
+        this.credentials = Map.copyOf(creds);
+        this.out = Path.of(o.getOrDefault("out", "build/reports/loadtest/summary.json"));
+        this.maxInFlight = Integer.parseInt(o.getOrDefault("max-in-flight", "10000"));
+        this.requestTimeout = Duration.ofSeconds(Long.parseLong(o.getOrDefault("timeout", "30")));
+        this.seed = Long.parseLong(o.getOrDefault("seed", "42"));
+        if (ratePerSecond <= 0) throw new IllegalArgumentException("--rate must be > 0");
+    }
+
+    public static LoadConfig parse(String... args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + arg);
+            int eq = arg.indexOf('=');
+            if (eq < 0) options.put(arg.substring(2), "true");
+            else options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadConfig(options);
+    }
+
+    /** "a=3,b=1" → {a=3, b=1}, keeping order; unknown scenario names are rejected by {@link Scenarios}. */
+    static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            String[] kv = part.trim().split("=");
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            if (weight > 0) mix.put(kv[0].trim(), weight);
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("--mix selects no scenario");
+        return Collections.unmodifiableMap(mix);
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> d = new LinkedHashMap<>();
+        d.put("baseUrl", baseUrl.toString());
+        d.put("ratePerSecond", ratePerSecond);
+        d.put("durationSeconds", duration.toSeconds());
+        d.put("warmupSeconds", warmup.toSeconds());
+        d.put("mix", mix);
+        d.put("maxInFlight", maxInFlight);
+        d.put("seed", seed);
+        return d;
+    }
+
+    private static String strip(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,132 @@
+package com.taker.loadtest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator: scenario runs arrive at a fixed mean rate (Poisson arrivals) whether or not earlier
+ * runs have finished, each on its own virtual thread, so a slow server builds up concurrency instead of slowing
+ * the test down. Writes a JSON summary (scenario and per-request p50/p90/p99/p999) for comparing runs.
+ * <p>
+ * Usage: {@code gradlew :loadtest:loadTest -Prate=100 -Pduration=120} (boots the backend jar), or
+ * {@code java -jar ... --base-url=http://localhost:8080 --rate=100 --duration=120 --mix=member-board=6,login=1}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        Metrics metrics = new Metrics();
+        ApiClient api = new ApiClient(config.baseUrl, config.requestTimeout, metrics);
+        BackendProcess backend = config.bootJar != null
+                ? BackendProcess.start(config.bootJar, config.bootArgs, config.out.resolveSibling("backend.log"), api)
+                : null;
+        try {
+            Map<String, Object> summary = run(config, api, metrics);
+            Path out = config.out.toAbsolutePath();
+            Files.createDirectories(out.getParent());
+            ApiClient.JSON.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), summary);
+            printTable(summary);
+            System.out.println("Summary written to " + out);
+        } finally {
+            if (backend != null) backend.close();
+        }
+    }
+
+    static Map<String, Object> run(LoadConfig config, ApiClient api, Metrics metrics) throws Exception {
+        Map<String, String> tokens = new HashMap<>();
+        for (Map.Entry<String, String[]> e : config.credentials.entrySet()) {
+            tokens.put(e.getKey(), api.login("setup login", e.getValue()[0], e.getValue()[1]));
+        }
+        Session session = new Session(api, Map.copyOf(tokens), config.credentials);
+        List<String> names = new ArrayList<>(config.mix.keySet());
+        List<Scenario> scenarios = names.stream().map(Scenarios::byName).toList();
+        int[] cumulative = new int[names.size()];
+        int total = 0;
+        for (int i = 0; i < names.size(); i++) {
+            total += config.mix.get(names.get(i));
+            cumulative[i] = total;
+        }
+
+        Random random = new Random(config.seed);
+        Semaphore inFlight = new Semaphore(config.maxInFlight);
+        double meanGapNanos = 1e9 / config.ratePerSecond;
+        long start = System.nanoTime();
+        long recordFrom = start + config.warmup.toNanos();
+        long end = recordFrom + config.duration.toNanos();
+        long arrivals = 0;
+        System.out.printf("Running %s at %.1f/s for %d s (+%d s warmup)%n", config.mix, config.ratePerSecond,
+                config.duration.toSeconds(), config.warmup.toSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = start;
+            while (true) {
+                next += (long) (-Math.log(1.0 - random.nextDouble()) * meanGapNanos);
+                if (next >= end) break;
+                long wait = next - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                if (!metrics.isRecording() && next >= recordFrom) metrics.startRecording();
+                int pick = random.nextInt(total);
+                int idx = 0;
+                while (cumulative[idx] <= pick) idx++;
+                String name = names.get(idx);
+                Scenario scenario = scenarios.get(idx);
+                long scheduledAt = next;
+                if (!inFlight.tryAcquire()) {
+                    metrics.recordDropped();
+                    continue;
+                }
+                if (scheduledAt >= recordFrom) arrivals++;
+                executor.submit(() -> {
+                    boolean ok = false;
+                    try {
+                        scenario.run(session);
+                        ok = true;
+                    } catch (Exception ignored) {
+                        // counted as an error for the scenario; the failing request is already recorded
+                    } finally {
+                        metrics.recordScenario(name, System.nanoTime() - scheduledAt, ok);
+                        inFlight.release();
+                    }
+                });
+            }
+            // Let in-flight runs finish (bounded by the request timeout) so their latency is counted.
+            executor.shutdown();
+            executor.awaitTermination(config.requestTimeout.toSeconds() * 4, TimeUnit.SECONDS);
+        }
+        double seconds = config.duration.toNanos() / 1e9;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("config", config.describe());
+        summary.put("arrivals", arrivals);
+        summary.put("dropped", metrics.dropped());
+        summary.put("targetRatePerSecond", config.ratePerSecond);
+        summary.put("achievedRatePerSecond", Math.round(metrics.completedScenarios() / seconds * 100.0) / 100.0);
+        summary.put("scenarios", metrics.scenarioSummary());
+        summary.put("requests", metrics.requestSummary());
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(Map<String, Object> summary) {
+        System.out.printf("%nArrivals %s, dropped %s, achieved %s/s%n", summary.get("arrivals"), summary.get("dropped"),
+                summary.get("achievedRatePerSecond"));
+        for (String section : List.of("scenarios", "requests")) {
+            System.out.printf("%n%-40s %8s %7s %9s %9s %9s %9s%n", section, "count", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+            ((Map<String, Map<String, Object>>) summary.get(section)).forEach((name, m) ->
+                    System.out.printf("%-40s %8s %7s %9s %9s %9s %9s%n", name, m.get("count"), m.get("errors"),
+                            m.get("p50Ms"), m.get("p99Ms"), m.get("p999Ms"), m.get("maxMs")));
+        }
+    }
+}
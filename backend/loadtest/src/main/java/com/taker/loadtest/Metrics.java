@@ -0,0 +1,113 @@
+package com.taker.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (HdrHistogram, microsecond resolution up to 5 minutes) for scenarios and individual requests.
+ * Scenario latency is measured from the <em>scheduled</em> arrival time, so a stalled server shows up in the tail
+ * instead of silently lowering the request rate (no coordinated omission). Nothing is recorded until
+ * {@link #startRecording()} is called at the end of warmup.
+ */
+public final class Metrics {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Series> scenarios = new ConcurrentHashMap<>();
+    private final Map<String, Series> requests = new ConcurrentHashMap<>();
+    private final AtomicBoolean recording = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+
+    public void startRecording() {
+        recording.set(true);
+    }
+
+    public boolean isRecording() {
+        return recording.get();
+    }
+
+    public void recordScenario(String name, long nanos, boolean ok) {
+        if (recording.get()) scenarios.computeIfAbsent(name, k -> new Series()).record(nanos, ok);
+    }
+
+    public void recordRequest(String step, long nanos, int status) {
+        if (recording.get()) requests.computeIfAbsent(step, k -> new Series()).record(nanos, status / 100 == 2, status);
+    }
+
+    /** An arrival that could not start because too many scenarios were still in flight. */
+    public void recordDropped() {
+        if (recording.get()) dropped.increment();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public Map<String, Object> scenarioSummary() {
+        return summarize(scenarios);
+    }
+
+    public Map<String, Object> requestSummary() {
+        return summarize(requests);
+    }
+
+    public long completedScenarios() {
+        return scenarios.values().stream().mapToLong(s -> s.histogram.getTotalCount()).sum();
+    }
+
+    private static Map<String, Object> summarize(Map<String, Series> series) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        new TreeMap<>(series).forEach((name, s) -> out.put(name, s.summary()));
+        return out;
+    }
+
+    static final class Series {
+        final Histogram histogram = new ConcurrentHistogram(1, MAX_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(long nanos, boolean ok) {
+            histogram.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos))));
+            if (!ok) errors.increment();
+        }
+
+        void record(long nanos, boolean ok, int status) {
+            record(nanos, ok);
+            statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", histogram.getTotalCount());
+            m.put("errors", errors.sum());
+            m.put("meanMs", round(histogram.getMean() / 1000.0));
+            m.put("p50Ms", ms(histogram.getValueAtPercentile(50)));
+            m.put("p90Ms", ms(histogram.getValueAtPercentile(90)));
+            m.put("p99Ms", ms(histogram.getValueAtPercentile(99)));
+            m.put("p999Ms", ms(histogram.getValueAtPercentile(99.9)));
+            m.put("maxMs", ms(histogram.getMaxValue()));
+            if (!statuses.isEmpty()) {
+                Map<String, Long> byStatus = new TreeMap<>();
+                statuses.forEach((k, v) -> byStatus.put(k == 0 ? "io_error" : String.valueOf(k), v.sum()));
+                m.put("statuses", byStatus);
+            }
+            return m;
+        }
+
+        private static double ms(long micros) {
+            return round(micros / 1000.0);
+        }
+
+        private static double round(double v) {
+            return Math.round(v * 1000.0) / 1000.0;
+        }
+    }
+}
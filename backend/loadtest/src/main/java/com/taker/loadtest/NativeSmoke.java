@@ -0,0 +1,118 @@
+package com.taker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Smoke test for the native image, run next to the JVM jar for comparison: boots each build against the configured
+ * database, logs in as admin, lists tasks and users, and records time until /api/health answers, Spring's own
+ * "Started ... in" time, RSS after the requests and the latency of those first requests. Exits non-zero if any
+ * build fails to start or a request fails. The database must already hold the DataLoader demo users.
+ * <p>
+ * Usage: {@code gradlew :loadtest:nativeSmoke}, or
+ * {@code NativeSmoke --native=build/native/nativeCompile/taker-backend --boot=build/libs/app.jar [--boot-args=...]}.
+ */
+public final class NativeSmoke {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    static final String PROFILE = "--spring.profiles.active=fast-startup";
+
+    private NativeSmoke() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        Map<String, List<String>> builds = new LinkedHashMap<>();
+        if (config.nativeBinary != null) {
+            List<String> command = new ArrayList<>(List.of(config.nativeBinary.toAbsolutePath().toString(), PROFILE));
+            command.addAll(config.bootArgs);
+            builds.put("native", command);
+        }
+        if (config.bootJar != null) {
+            List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-jar", config.bootJar.toAbsolutePath().toString(), PROFILE));
+            command.addAll(config.bootArgs);
+            builds.put("jvm", command);
+        }
+        if (builds.isEmpty()) throw new IllegalArgumentException("Pass --native=<binary> and/or --boot=<jar>");
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        boolean ok = true;
+        for (Map.Entry<String, List<String>> build : builds.entrySet()) {
+            Map<String, Object> result = run(config, build.getKey(), build.getValue());
+            ok &= Boolean.TRUE.equals(result.get("ok"));
+            results.put(build.getKey(), result);
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("baseUrl", config.baseUrl.toString());
+        summary.put("builds", results);
+        Path out = config.out.toAbsolutePath();
+        Files.createDirectories(out.getParent());
+        ApiClient.JSON.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), summary);
+        printTable(results);
+        System.out.println("Summary written to " + out);
+        if (!ok) System.exit(1);
+    }
+
+    private static Map<String, Object> run(LoadConfig config, String name, List<String> command) throws InterruptedException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Metrics metrics = new Metrics();
+        metrics.startRecording();
+        ApiClient api = new ApiClient(config.baseUrl, config.requestTimeout, metrics);
+        Path log = config.out.resolveSibling(name + "-backend.log");
+        try (BackendProcess backend = BackendProcess.start(command, log, api)) {
+            result.put("upMs", backend.upAfter().toMillis());
+            result.put("springStartedSeconds", startedSeconds(log));
+            String[] admin = config.credentials.get("admin");
+            String token = api.login("POST /api/auth/login", admin[0], admin[1]);
+            JsonNode tasks = api.get("GET /api/tasks", "/api/tasks", token).path("data");
+            JsonNode users = api.get("GET /api/users", "/api/users", token).path("data");
+            result.put("tasks", tasks.size());
+            result.put("users", users.size());
+            result.put("rssMb", backend.rssKb() < 0 ? null : Math.round(backend.rssKb() / 1024.0));
+            result.put("ok", users.size() > 0);
+        } catch (IOException e) {
+            result.put("ok", false);
+            result.put("error", e.getMessage());
+        }
+        result.put("firstRequests", metrics.requestSummary());
+        return result;
+    }
+
+    /** Spring's "Started TakerAuthApplication in X seconds" from the backend log, or null if not found. */
+    static Double startedSeconds(Path log) {
+        try {
+            Matcher m = STARTED.matcher(Files.readString(log));
+            return m.find() ? Double.parseDouble(m.group(1)) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(Map<String, Object> results) {
+        System.out.printf("%n%-8s %4s %9s %12s %8s %10s %10s %10s%n", "build", "ok", "up ms", "started s", "RSS MB",
+                "login ms", "tasks ms", "users ms");
+        results.forEach((name, r) -> {
+            Map<String, Object> m = (Map<String, Object>) r;
+            Map<String, Map<String, Object>> first = (Map<String, Map<String, Object>>) m.get("firstRequests");
+            System.out.printf("%-8s %4s %9s %12s %8s %10s %10s %10s%n", name, m.get("ok"), m.get("upMs"),
+                    m.get("springStartedSeconds"), m.get("rssMb"), maxMs(first, "POST /api/auth/login"),
+                    maxMs(first, "GET /api/tasks"), maxMs(first, "GET /api/users"));
+            if (m.containsKey("error")) System.out.println("         " + m.get("error"));
+        });
+    }
+
+    private static Object maxMs(Map<String, Map<String, Object>> steps, String step) {
+        Map<String, Object> s = steps.get(step);
+        return s == null ? null : s.get("maxMs");
+    }
+}
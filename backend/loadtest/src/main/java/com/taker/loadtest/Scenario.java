@@ -0,0 +1,8 @@
+package com.taker.loadtest;
+
+/** One user journey, started once per arrival. Steps record their own request latency via {@link ApiClient}. */
+@FunctionalInterface
+public interface Scenario {
+
+    void run(Session session) throws Exception;
+}
@@ -0,0 +1,83 @@
+package com.taker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * The scenarios a mix can select. Each mirrors what the Flutter app does for that role on one screen:
+ * <ul>
+ *   <li>{@code admin-dashboard}: first page of users and tasks plus the project list</li>
+ *   <li>{@code member-board}: own tasks, own projects, then moves one task to the next status</li>
+ *   <li>{@code leader-assign}: team members, assigns a new task to one of them, reloads the board</li>
+ *   <li>{@code manager-overview}: tasks of managed projects and the user list filtered as manager</li>
+ *   <li>{@code login}: a fresh login (BCrypt-bound)</li>
+ * </ul>
+ */
+public final class Scenarios {
+
+    private static final String[] NEXT_STATUS = {"need_to_start", "ongoing", "completed"};
+
+    private Scenarios() {}
+
+    static final Map<String, Scenario> ALL = Map.of(
+            "admin-dashboard", Scenarios::adminDashboard,
+            "member-board", Scenarios::memberBoard,
+            "leader-assign", Scenarios::leaderAssign,
+            "manager-overview", Scenarios::managerOverview,
+            "login", Scenarios::login);
+
+    static Scenario byName(String name) {
+        Scenario s = ALL.get(name);
+        if (s == null) throw new IllegalArgumentException("Unknown scenario '" + name + "'. Known: " + new TreeSet<>(ALL.keySet()));
+        return s;
+    }
+
+    static void adminDashboard(Session s) throws Exception {
+        String token = s.token("admin");
+        s.api.get("GET /api/users?limit", "/api/users?limit=100", token);
+        s.api.get("GET /api/tasks?limit", "/api/tasks?limit=100", token);
+        s.api.get("GET /api/projects", "/api/projects", token);
+    }
+
+    static void memberBoard(Session s) throws Exception {
+        String token = s.token("member");
+        JsonNode tasks = s.api.get("GET /api/tasks", "/api/tasks", token).path("data");
+        s.api.get("GET /api/users/member/projects", "/api/users/member/projects", token);
+        if (tasks.isArray() && !tasks.isEmpty()) {
+            JsonNode task = tasks.get(s.random().nextInt(tasks.size()));
+            String next = NEXT_STATUS[s.random().nextInt(NEXT_STATUS.length)];
+            s.api.patch("PATCH /api/tasks/{id}/status", "/api/tasks/" + task.path("id").asLong() + "/status", token,
+                    Map.of("status", next));
+        }
+    }
+
+    static void leaderAssign(Session s) throws Exception {
+        String token = s.token("leader");
+        JsonNode byProject = s.api.get("GET /api/users/team-leader/team-members", "/api/users/team-leader/team-members", token).path("data");
+        List<Long> memberIds = new ArrayList<>();
+        byProject.forEach(members -> members.forEach(m -> memberIds.add(m.path("id").asLong())));
+        if (!memberIds.isEmpty()) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("userId", memberIds.get(s.random().nextInt(memberIds.size())));
+            body.put("taskTitle", "Load test task " + UUID.randomUUID().toString().substring(0, 8));
+            body.put("dueDate", LocalDate.now().plusDays(s.random().nextInt(1, 30)).toString());
+            s.api.post("POST /api/tasks/assign", "/api/tasks/assign", token, body);
+        }
+        s.api.get("GET /api/tasks", "/api/tasks", token);
+    }
+
+    static void managerOverview(Session s) throws Exception {
+        String token = s.token("manager");
+        String email = s.credentials.get("manager")[0];
+        s.api.get("GET /api/tasks", "/api/tasks", token);
+        s.api.get("GET /api/users?forRole", "/api/users?forRole=manager&forEmail=" + email + "&limit=100", token);
+    }
+
+    static void login(Session s) throws Exception {
+        String[] roles = {"member", "leader", "manager"};
+        String[] cred = s.credentials.get(roles[s.random().nextInt(roles.length)]);
+        s.api.login("POST /api/auth/login", cred[0], cred[1]);
+    }
+}
@@ -0,0 +1,26 @@
+package com.taker.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** What a scenario run gets: the client, a bearer token per role (logged in once at start) and credentials. */
+public final class Session {
+
+    final ApiClient api;
+    final Map<String, String> tokens;
+    final Map<String, String[]> credentials;
+
+    Session(ApiClient api, Map<String, String> tokens, Map<String, String[]> credentials) {
+        this.api = api;
+        this.tokens = tokens;
+        this.credentials = credentials;
+    }
+
+    String token(String role) {
+        return tokens.get(role);
+    }
+
+    ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taker.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompareRunsTest {
+
+    @Nested
+    @DisplayName("compare")
+    class CompareTests {
+        @Test
+        @SuppressWarnings("unchecked")
+        void pairsStepsPresentInBothRunsWithP99Ratio() {
+            Map<String, Object> platform = Map.of(
+                    "achievedRatePerSecond", 180.0, "dropped", 12,
+                    "scenarios", Map.of(),
+                    "requests", Map.of(
+                            "GET /api/tasks", Map.of("count", 1000, "errors", 3, "p50Ms", 20.0, "p99Ms", 400.0, "p999Ms", 900.0),
+                            "POST /api/auth/login", Map.of("count", 100, "errors", 0, "p50Ms", 90.0, "p99Ms", 200.0, "p999Ms", 300.0)));
+            Map<String, Object> virtual = Map.of(
+                    "achievedRatePerSecond", 200.0, "dropped", 0,
+                    "scenarios", Map.of(),
+                    "requests", Map.of(
+                            "GET /api/tasks", Map.of("count", 1100, "errors", 0, "p50Ms", 18.0, "p99Ms", 100.0, "p999Ms", 250.0)));
+
+            Map<String, Object> result = CompareRuns.compare("platform", platform, "virtual", virtual);
+
+            assertThat((Map<String, Object>) result.get("dropped")).containsEntry("platform", 12).containsEntry("virtual", 0);
+            Map<String, Map<String, Object>> requests = (Map<String, Map<String, Object>>) result.get("requests");
+            assertThat(requests).containsOnlyKeys("GET /api/tasks");
+            assertThat(requests.get("GET /api/tasks").get("p99Ratio")).isEqualTo(0.25);
+            assertThat((Map<String, Object>) requests.get("GET /api/tasks").get("virtual")).containsEntry("errors", 0);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.taker.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadConfigTest {
+
+    @Nested
+    @DisplayName("parse")
+    class ParseTests {
+        @Test
+        void appliesDefaults() {
+            LoadConfig config = LoadConfig.parse();
+
+            assertThat(config.baseUrl.toString()).isEqualTo("http://localhost:8080");
+            assertThat(config.ratePerSecond).isEqualTo(50.0);
+            assertThat(config.mix).containsKeys("member-board", "leader-assign", "admin-dashboard", "login");
+            assertThat(config.credentials.get("member")).containsExactly("member@taker.com", "Password@1");
+            assertThat(config.bootJar).isNull();
+        }
+
+        @Test
+        void readsOverrides() {
+            LoadConfig config = LoadConfig.parse("--base-url=http://host:9000/", "--rate=250", "--mix=login=1,member-board=0",
+                    "--member=user7@load.test:Password@1");
+
+            assertThat(config.baseUrl.toString()).isEqualTo("http://host:9000");
+            assertThat(config.ratePerSecond).isEqualTo(250.0);
+            assertThat(config.mix).containsOnlyKeys("login");
+            assertThat(config.credentials.get("member")[0]).isEqualTo("user7@load.test");
+        }
+
+        @Test
+        void rejectsBadInput() {
+            assertThatThrownBy(() -> LoadConfig.parse("rate=5")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> LoadConfig.parse("--rate=0")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Scenarios.byName("nope")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
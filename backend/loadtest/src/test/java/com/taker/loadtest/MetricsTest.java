@@ -0,0 +1,48 @@
+package com.taker.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsTest {
+
+    @Nested
+    @DisplayName("summaries")
+    class SummaryTests {
+        @Test
+        void ignoresWarmupAndReportsPercentiles() {
+            Metrics metrics = new Metrics();
+            metrics.recordRequest("GET /api/tasks", TimeUnit.SECONDS.toNanos(10), 200);
+            metrics.startRecording();
+            for (int i = 1; i <= 1000; i++) {
+                metrics.recordRequest("GET /api/tasks", TimeUnit.MILLISECONDS.toNanos(i), i == 1000 ? 503 : 200);
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> tasks = (Map<String, Object>) metrics.requestSummary().get("GET /api/tasks");
+            assertThat(tasks.get("count")).isEqualTo(1000L);
+            assertThat(tasks.get("errors")).isEqualTo(1L);
+            assertThat((double) tasks.get("p50Ms")).isBetween(499.0, 501.0);
+            assertThat((double) tasks.get("p99Ms")).isBetween(989.0, 991.0);
+            assertThat((double) tasks.get("maxMs")).isLessThan(1001.0);
+            @SuppressWarnings("unchecked")
+            Map<String, Long> statuses = (Map<String, Long>) tasks.get("statuses");
+            assertThat(statuses).containsEntry("503", 1L);
+        }
+
+        @Test
+        void countsDroppedArrivalsOnlyWhileRecording() {
+            Metrics metrics = new Metrics();
+            metrics.recordDropped();
+            metrics.startRecording();
+            metrics.recordDropped();
+
+            assertThat(metrics.dropped()).isEqualTo(1);
+        }
+    }
+}
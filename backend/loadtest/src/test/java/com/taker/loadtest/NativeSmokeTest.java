@@ -0,0 +1,34 @@
+package com.taker.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeSmokeTest {
+
+    @Nested
+    @DisplayName("startedSeconds")
+    class StartedSecondsTests {
+        @Test
+        void readsSpringStartupTimeFromLog(@TempDir Path dir) throws Exception {
+            Path log = Files.writeString(dir.resolve("native-backend.log"),
+                    "INFO c.t.a.TakerAuthApplication : Started TakerAuthApplication in 0.187 seconds (process running for 0.2)\n");
+
+            assertThat(NativeSmoke.startedSeconds(log)).isEqualTo(0.187);
+        }
+
+        @Test
+        void returnsNullWhenLogHasNoStartLine(@TempDir Path dir) throws Exception {
+            Path log = Files.writeString(dir.resolve("jvm-backend.log"), "Application run failed\n");
+
+            assertThat(NativeSmoke.startedSeconds(log)).isNull();
+            assertThat(NativeSmoke.startedSeconds(dir.resolve("missing.log"))).isNull();
+        }
+    }
+}
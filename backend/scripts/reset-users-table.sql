@@ -1,5 +1,7 @@
--- Run this ONCE in PostgreSQL (pgAdmin or psql) to fix schema mismatch.
+-- Run this ONCE in PostgreSQL (pgAdmin or psql) to start from an empty schema.
 -- Connects to database: project-Tracker
--- This drops the old users table so Hibernate can recreate it correctly.
+-- Drops all application tables and the Flyway history, so the migrations (db/migration) recreate them on next start.
 
-DROP TABLE IF EXISTS users CASCADE;
+DROP TABLE IF EXISTS task_status_counts, tasks, project_assignments, projects, users, positions CASCADE;
+DROP FUNCTION IF EXISTS task_status_counts_apply();
+DROP TABLE IF EXISTS flyway_schema_history;
@@ -0,0 +1,26 @@
+package com.taker.auth.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Minimal in-memory stand-ins for Spring Data repository interfaces, so benchmarks measure the mapping code and not a
+ * mocking framework. Only the named methods answer; anything else throws.
+ */
+public final class RepositoryStubs {
+
+    private RepositoryStubs() {}
+
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) return answer.apply(args);
+            if (method.getName().equals("toString")) return type.getSimpleName() + " stub";
+            if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+            if (method.getName().equals("equals")) return proxy == args[0];
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.taker.auth.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Serializing the GET /api/tasks body with the same ObjectMapper setup Spring Boot uses. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int tasks;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<TaskDto>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(new TypeReference<ApiResponse<List<TaskDto>>>() {});
+        List<TaskDto> list = new ArrayList<>(tasks);
+        LocalDate due = LocalDate.of(2025, 6, 1);
+        for (int i = 0; i < tasks; i++) {
+            list.add(new TaskDto((long) i + 1, "Implement task board filters " + i, i % 3 == 0 ? "completed" : "ongoing",
+                    due.plusDays(i % 90), i % 10 == 0 ? "Details for task " + i : null,
+                    (long) (i % 500) + 1, "Member User " + (i % 500), (long) (i % 20) + 1, "Project " + (i % 20)));
+        }
+        response = ApiResponse.success("OK", list);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,50 @@
+package com.taker.auth.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/** Token generation and verification as done on every login and every authenticated request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        set("secret", "benchmark-secret-benchmark-secret-benchmark");
+        set("expirationMs", 86_400_000L);
+        token = jwtService.generateToken("member@taker.com", "member");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("member@taker.com", "member");
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public String extractEmailThenRole() {
+        // The pre-cache filter path: two full parses per request.
+        return jwtService.extractEmail(token) + jwtService.extractRole(token);
+    }
+
+    private void set(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtService.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtService, value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.taker.auth.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Status normalization, run for every task written and every status filter. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskStatusBenchmark {
+
+    private static final String[] INPUTS = {"ongoing", "In Progress", "completed", "done", "need_to_start",
+            "Yet to start", "todo", "", null, "blocked"};
+
+    @Benchmark
+    public void normalizeStatus(Blackhole bh) {
+        for (String s : INPUTS) {
+            bh.consume(TaskService.normalizeStatus(s));
+        }
+    }
+}
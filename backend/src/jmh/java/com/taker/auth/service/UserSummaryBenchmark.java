@@ -0,0 +1,74 @@
+package com.taker.auth.service;
+
+import com.taker.auth.bench.RepositoryStubs;
+import com.taker.auth.dto.UserSummaryDto;
+import com.taker.auth.entity.Position;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-process part of user summary mapping (DataService.toUserSummary / GET /api/users): joining the batch query
+ * rows onto users. Repositories answer from memory, so only the assembler's own work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSummaryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int users;
+
+    private UserSummaryAssembler assembler;
+    private List<User> userList;
+
+    @Setup
+    public void setUp() {
+        int projects = Math.max(1, users / 25);
+        Position position = new Position("Developer");
+        userList = new ArrayList<>(users);
+        List<Object[]> projectRows = new ArrayList<>(users);
+        List<Object[]> leadRows = new ArrayList<>(projects * 2);
+        List<Object[]> completedRows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User u = new User("User " + i, "user" + i + "@load.test", null, "hash", i % 10 == 0 ? Role.TEAM_LEADER : Role.MEMBER);
+            u.setId((long) i + 1);
+            u.setPosition(position);
+            userList.add(u);
+            long projectId = i % projects + 1;
+            projectRows.add(new Object[]{u.getId(), projectId, "Project " + projectId});
+            completedRows.add(new Object[]{u.getId(), (long) (i % 40)});
+        }
+        for (long p = 1; p <= projects; p++) {
+            leadRows.add(new Object[]{p, ProjectRole.MANAGER, "Manager " + p});
+            leadRows.add(new Object[]{p, ProjectRole.TEAM_LEADER, "Leader " + p});
+        }
+        ProjectAssignmentRepository assignments = RepositoryStubs.stub(ProjectAssignmentRepository.class, Map.of(
+                "findProjectRowsByUserIds", args -> projectRows,
+                "findMemberNamesByProjectIdsAndRoles", args -> leadRows));
+        TaskStatusCountRepository counters = RepositoryStubs.stub(TaskStatusCountRepository.class, Map.of(
+                "sumByUserIdInAndStatus", args -> completedRows));
+        assembler = new UserSummaryAssembler(assignments, counters);
+    }
+
+    @Benchmark
+    public List<UserSummaryDto> toSummaries() {
+        return assembler.toSummaries(userList);
+    }
+
+    @Benchmark
+    public UserSummaryDto toSummarySingle() {
+        return assembler.toSummary(userList.get(0));
+    }
+}
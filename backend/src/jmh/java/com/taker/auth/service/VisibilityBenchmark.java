@@ -0,0 +1,84 @@
+package com.taker.auth.service;
+
+import com.taker.auth.bench.RepositoryStubs;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Visibility checks for task and user listing. Task rows are filtered in SQL (TaskRepository.findVisibleDtos);
+ * the in-process part is the membership index: a manager's/leader's team set, the per-task canUpdateTask check,
+ * and the full rebuild from project_assignments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisibilityBenchmark {
+
+    private static final int MEMBERS_PER_PROJECT = 25;
+
+    @Param({"1000", "10000", "100000"})
+    public int assignments;
+
+    private ProjectMembershipIndex index;
+    private long managerId;
+    private long leaderId;
+    private long memberId;
+
+    @Setup
+    public void setUp() {
+        int projects = Math.max(1, assignments / MEMBERS_PER_PROJECT);
+        // Managers run 4 projects each; leaders 1; member ids follow.
+        int managers = Math.max(1, projects / 4);
+        List<Object[]> rows = new ArrayList<>(assignments);
+        long nextMember = managers + projects + 1L;
+        for (long p = 1; p <= projects; p++) {
+            rows.add(new Object[]{p, (p - 1) % managers + 1, ProjectRole.MANAGER});
+            rows.add(new Object[]{p, managers + p, ProjectRole.TEAM_LEADER});
+            for (int m = 2; m < MEMBERS_PER_PROJECT; m++) {
+                rows.add(new Object[]{p, nextMember++, ProjectRole.TEAM_MEMBER});
+            }
+        }
+        index = new ProjectMembershipIndex(RepositoryStubs.stub(ProjectAssignmentRepository.class,
+                Map.of("findAllMembershipRows", args -> rows)), new SimpleMeterRegistry());
+        index.rebuild();
+        managerId = 1;
+        leaderId = managers + 1L;
+        memberId = nextMember - 1;
+    }
+
+    @Benchmark
+    public Set<Long> managerTeam() {
+        return index.membersOfProjectsOf(managerId, ProjectRole.MANAGER);
+    }
+
+    @Benchmark
+    public Set<Long> leaderTeam() {
+        return index.membersOfProjectsOf(leaderId, ProjectRole.TEAM_LEADER);
+    }
+
+    @Benchmark
+    public boolean canUpdateCheck() {
+        return index.sharesProject(managerId, memberId, ProjectRole.MANAGER);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ProjectMembershipIndex rebuild() {
+        index.rebuild();
+        return index;
+    }
+}
@@ -2,11 +2,19 @@ package com.taker.auth;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TakerAuthApplication {
 
+    /** Startup steps kept for /actuator/startup and the timeline logged by StartupDbLogger. */
+    private static final int STARTUP_STEPS = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(TakerAuthApplication.class, args);
+        SpringApplication app = new SpringApplication(TakerAuthApplication.class);
+        app.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        app.run(args);
     }
 }
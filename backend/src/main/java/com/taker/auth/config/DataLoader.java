@@ -2,7 +2,13 @@ package com.taker.auth.config;
 
 import com.taker.auth.entity.*;
 import com.taker.auth.repository.*;
+import com.taker.auth.service.ProjectMembershipIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -11,13 +17,61 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Seeds demo users, projects and tasks. {@code app.seed.mode}: {@code sync} (default) seeds before the app reports
+ * ready, {@code async} seeds on a background thread once it is ready, {@code skip} does not seed.
+ * Seeding saves assignments directly, so after async seeding the membership index is rebuilt.
+ */
 @Configuration
 public class DataLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+
+    private static final long DEMO_TOP_UP_MAX_USERS = 1000;
+
+    @Value("${app.seed.mode:sync}")
+    private String seedMode;
+
     @Bean
     CommandLineRunner init(UserRepository userRepository, ProjectRepository projectRepository,
                           TaskRepository taskRepository, ProjectAssignmentRepository assignmentRepository,
                           PositionRepository positionRepository, PasswordEncoder encoder) {
+        if ("skip".equals(seedMode)) {
+            return args -> log.info("Demo data seeding skipped (app.seed.mode=skip)");
+        }
+        if ("async".equals(seedMode)) {
+            return args -> { };
+        }
+        return demoData(userRepository, projectRepository, taskRepository, assignmentRepository, positionRepository, encoder);
+    }
+
+    @Bean
+    ApplicationListener<ApplicationReadyEvent> seedAfterReady(UserRepository userRepository, ProjectRepository projectRepository,
+                                                              TaskRepository taskRepository, ProjectAssignmentRepository assignmentRepository,
+                                                              PositionRepository positionRepository, PasswordEncoder encoder,
+                                                              ProjectMembershipIndex membershipIndex) {
+        return event -> {
+            if (!"async".equals(seedMode)) {
+                return;
+            }
+            CommandLineRunner seed = demoData(userRepository, projectRepository, taskRepository, assignmentRepository,
+                    positionRepository, encoder);
+            Thread.ofVirtual().name("demo-seed").start(() -> {
+                long start = System.nanoTime();
+                try {
+                    seed.run();
+                    membershipIndex.rebuild();
+                    log.info("Demo data seeded after startup in {} ms", (System.nanoTime() - start) / 1_000_000);
+                } catch (Exception e) {
+                    log.warn("Demo data seeding failed", e);
+                }
+            });
+        };
+    }
+
+    private CommandLineRunner demoData(UserRepository userRepository, ProjectRepository projectRepository,
+                                       TaskRepository taskRepository, ProjectAssignmentRepository assignmentRepository,
+                                       PositionRepository positionRepository, PasswordEncoder encoder) {
         return args -> {
             if (positionRepository.count() == 0) {
                 for (String name : List.of("Developer", "Tester", "Designer", "Analyst")) {
@@ -143,14 +197,14 @@ public class DataLoader {
                 User member1 = memberUsers.get(0);
                 Task t1 = new Task();
                 t1.setTitle("Review wireframes");
-                t1.setStatus("in_progress");
+                t1.setStatus(TaskStatus.ONGOING);
                 t1.setDueDate(LocalDate.of(2025, 2, 20));
                 t1.setAssignedTo(member1);
                 t1.setProject(p1);
                 taskRepository.save(t1);
                 Task t2 = new Task();
                 t2.setTitle("Setup dev environment");
-                t2.setStatus("done");
+                t2.setStatus(TaskStatus.COMPLETED);
                 t2.setDueDate(LocalDate.of(2025, 2, 15));
                 t2.setAssignedTo(member1);
                 t2.setProject(p1);
@@ -158,9 +212,9 @@ public class DataLoader {
             }
             // If projects already exist but have no assignments (e.g. after a previous partial run), seed assignments
             if (projectRepository.count() >= 3 && assignmentRepository.count() == 0) {
-                Project p1 = projectRepository.findAll().stream().filter(p -> "Website Redesign".equals(p.getName())).findFirst().orElse(null);
-                Project p2 = projectRepository.findAll().stream().filter(p -> "Mobile App".equals(p.getName())).findFirst().orElse(null);
-                Project p3 = projectRepository.findAll().stream().filter(p -> "API Integration".equals(p.getName())).findFirst().orElse(null);
+                Project p1 = projectRepository.findByName("Website Redesign").orElse(null);
+                Project p2 = projectRepository.findByName("Mobile App").orElse(null);
+                Project p3 = projectRepository.findByName("API Integration").orElse(null);
                 if (p1 != null && p2 != null && p3 != null) {
                     User m1 = userRepository.findByEmail("manager@taker.com").orElse(null);
                     User m2 = userRepository.findByEmail("manager2@taker.com").orElse(null);
@@ -188,13 +242,19 @@ public class DataLoader {
                     }
                 }
             }
+            // The demo top-ups below go user by user and project by project; on a large (e.g. synthetic) dataset they
+            // would run for hours, and such data already has tasks of every status.
+            if (userRepository.count() > DEMO_TOP_UP_MAX_USERS) {
+                log.info("Skipping demo task top-up: more than {} users.", DEMO_TOP_UP_MAX_USERS);
+                return;
+            }
             // Ensure 3 fake tasks per user (with details) for everyone
             List<Project> allProjects = projectRepository.findAll();
             if (!allProjects.isEmpty()) {
                 Project defaultProject = allProjects.get(0);
                 List<User> allUsers = userRepository.findAll();
                 String[] taskTitles = {"Review sprint backlog and update status", "Complete API documentation for assigned module", "Run QA tests and log defects in tracker"};
-                String[] taskStatuses = {"todo", "in_progress", "done"};
+                TaskStatus[] taskStatuses = {TaskStatus.NEED_TO_START, TaskStatus.ONGOING, TaskStatus.COMPLETED};
                 for (User u : allUsers) {
                     List<Task> userTasks = taskRepository.findByAssignedToId(u.getId());
                     if (userTasks.size() >= 3) continue;
@@ -219,9 +279,9 @@ public class DataLoader {
                 List<Task> projectTasks = taskRepository.findAll().stream()
                     .filter(t -> t.getProject() != null && proj.getId().equals(t.getProject().getId()))
                     .toList();
-                long hasTodo = projectTasks.stream().filter(t -> "todo".equals(t.getStatus()) || "need_to_start".equals(t.getStatus())).count();
-                long hasOngoing = projectTasks.stream().filter(t -> "in_progress".equals(t.getStatus()) || "ongoing".equals(t.getStatus())).count();
-                long hasCompleted = projectTasks.stream().filter(t -> "done".equals(t.getStatus()) || "completed".equals(t.getStatus())).count();
+                long hasTodo = projectTasks.stream().filter(t -> t.getStatus() == TaskStatus.NEED_TO_START).count();
+                long hasOngoing = projectTasks.stream().filter(t -> t.getStatus() == TaskStatus.ONGOING).count();
+                long hasCompleted = projectTasks.stream().filter(t -> t.getStatus() == TaskStatus.COMPLETED).count();
                 User assignee = assignmentRepository.findByProjectId(proj.getId()).stream()
                     .map(ProjectAssignment::getUser)
                     .findFirst()
@@ -229,7 +289,7 @@ public class DataLoader {
                 if (hasTodo == 0) {
                     Task todo = new Task();
                     todo.setTitle("Todo – " + proj.getName());
-                    todo.setStatus("need_to_start");
+                    todo.setStatus(TaskStatus.NEED_TO_START);
                     todo.setDueDate(LocalDate.of(2025, 4, 1));
                     todo.setProject(proj);
                     if (assignee != null) todo.setAssignedTo(assignee);
@@ -238,7 +298,7 @@ public class DataLoader {
                 if (hasOngoing == 0) {
                     Task ongoing = new Task();
                     ongoing.setTitle("Ongoing – " + proj.getName());
-                    ongoing.setStatus("ongoing");
+                    ongoing.setStatus(TaskStatus.ONGOING);
                     ongoing.setDueDate(LocalDate.of(2025, 4, 15));
                     ongoing.setProject(proj);
                     if (assignee != null) ongoing.setAssignedTo(assignee);
@@ -247,7 +307,7 @@ public class DataLoader {
                 if (hasCompleted == 0) {
                     Task completed = new Task();
                     completed.setTitle("Completed – " + proj.getName());
-                    completed.setStatus("completed");
+                    completed.setStatus(TaskStatus.COMPLETED);
                     completed.setDueDate(LocalDate.of(2025, 3, 20));
                     completed.setProject(proj);
                     if (assignee != null) completed.setAssignedTo(assignee);
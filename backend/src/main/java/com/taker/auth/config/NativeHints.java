@@ -0,0 +1,98 @@
+package com.taker.auth.config;
+
+import com.taker.auth.entity.RoleConverter;
+import com.taker.auth.entity.TaskStatusConverter;
+import com.taker.auth.entity.TaskStatusCount;
+import com.taker.auth.exception.ErrorCode;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reflection, resource and proxy hints for the GraalVM native image ({@code gradlew nativeCompile}). Spring AOT
+ * already covers beans, controllers, Spring Data repositories and @Entity classes; this adds what it cannot see:
+ * every DTO (they travel inside the generic ApiResponse), attribute converters and the @IdClass, jjwt's
+ * implementation classes (loaded by name from jjwt-api), Flyway migrations and the JDBC limiter's Connection proxy.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHints.Registrar.class)
+public class NativeHints {
+
+    static final String DTO_PACKAGE = "com.taker.auth.dto";
+
+    static final List<String> JJWT_IMPL_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            for (Class<?> dto : dtoClasses(classLoader)) {
+                binding.registerReflectionHints(hints.reflection(), dto);
+            }
+            binding.registerReflectionHints(hints.reflection(), ErrorCode.class);
+            for (Class<?> type : List.of(RoleConverter.class, TaskStatusConverter.class, TaskStatusCount.Key.class)) {
+                hints.reflection().registerType(type, MemberCategory.values());
+            }
+            for (String name : JJWT_IMPL_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(name),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+            hints.resources().registerPattern("db/migration/*.sql");
+            hints.proxies().registerJdkProxy(Connection.class);
+        }
+
+        /** All classes in the DTO package, found at build time. */
+        static List<Class<?>> dtoClasses(ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                    return definition.getMetadata().isIndependent();
+                }
+            };
+            scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(Pattern.quote(DTO_PACKAGE) + "\\..*")));
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            return scanner.findCandidateComponents(DTO_PACKAGE).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                    .toList();
+        }
+    }
+}
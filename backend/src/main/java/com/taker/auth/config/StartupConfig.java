@@ -0,0 +1,68 @@
+package com.taker.auth.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Startup tuning. {@code app.startup.lazy-beans} lists class-name prefixes of beans that are not needed to serve the
+ * API (e.g. springdoc, mail); beans declared by or of such classes are created on first use instead of at startup.
+ * Empty by default; the fast-startup profile sets it.
+ */
+@Configuration
+public class StartupConfig {
+
+    /** Static so it runs before any of the listed beans are created. */
+    @Bean
+    static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment env) {
+        List<String> prefixes = List.of(env.getProperty("app.startup.lazy-beans", String[].class, new String[0]));
+        return beanFactory -> {
+            if (prefixes.isEmpty()) {
+                return;
+            }
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.getRole() != BeanDefinition.ROLE_INFRASTRUCTURE && matches(beanFactory, definition, prefixes)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    static boolean matches(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition, List<String> prefixes) {
+        return startsWithAny(definition.getBeanClassName(), prefixes)
+                || startsWithAny(declaringClass(beanFactory, definition), prefixes)
+                || (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null
+                    && startsWithAny(returnType(annotated.getFactoryMethodMetadata()), prefixes));
+    }
+
+    /** Class of the configuration that declares a {@code @Bean} method, if this is one. */
+    private static String declaringClass(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBean = definition.getFactoryBeanName();
+        if (factoryBean == null || !beanFactory.containsBeanDefinition(factoryBean)) {
+            return null;
+        }
+        return beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+    }
+
+    private static String returnType(MethodMetadata method) {
+        return method.getReturnTypeName();
+    }
+
+    private static boolean startsWithAny(String className, List<String> prefixes) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (className.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+}
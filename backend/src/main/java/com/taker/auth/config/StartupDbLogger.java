@@ -1,17 +1,32 @@
 package com.taker.auth.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+
 /**
  * Logs the datasource URL at startup so you can verify the backend is using the same DB as pgAdmin.
  * If data isn't updating in pgAdmin, check that this URL matches the database you have open (host, port, database name).
+ * Also logs a startup timeline: time per startup phase and the slowest beans to create (full detail on
+ * /actuator/startup).
  */
 @Component
 public class StartupDbLogger {
 
+    private static final Logger log = LoggerFactory.getLogger(StartupDbLogger.class);
+
+    static final String REFRESH_STEP = "spring.context.refresh";
+    static final String BEAN_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_BEANS = 8;
+
     private final Environment env;
 
     public StartupDbLogger(Environment env) {
@@ -24,4 +39,57 @@ public class StartupDbLogger {
         String masked = url.replaceAll(":[^:@]+@", ":****@"); // mask password in URL if present
         System.out.println("[DB] Connected to: " + masked + " (ensure this is the same DB you open in pgAdmin)");
     }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupTimeline(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> events = startup.getBufferedTimeline().getEvents();
+        log.info("Startup took {} ms to ready. Phases: {}. Slowest beans: {}", event.getTimeTaken().toMillis(),
+                phases(events), slowestBeans(events, SLOWEST_BEANS));
+    }
+
+    /** Top-level steps and the direct sub-steps of the context refresh, with their durations (repeated steps summed). */
+    static String phases(List<StartupTimeline.TimelineEvent> events) {
+        Set<Long> refreshIds = new HashSet<>();
+        for (StartupTimeline.TimelineEvent e : events) {
+            if (REFRESH_STEP.equals(e.getStartupStep().getName())) refreshIds.add(e.getStartupStep().getId());
+        }
+        Map<String, Long> millis = new LinkedHashMap<>();
+        for (StartupTimeline.TimelineEvent e : events) {
+            StartupStep step = e.getStartupStep();
+            boolean refreshChild = step.getParentId() != null && refreshIds.contains(step.getParentId())
+                    && !BEAN_STEP.equals(step.getName());
+            if (step.getParentId() == null || refreshChild) {
+                millis.merge(shortName(step.getName()), e.getDuration().toMillis(), Long::sum);
+            }
+        }
+        StringJoiner out = new StringJoiner(", ");
+        millis.forEach((name, ms) -> out.add(name + " " + ms + " ms"));
+        return out.toString();
+    }
+
+    /** The {@code limit} slowest bean creations (including the beans they pulled in). */
+    static String slowestBeans(List<StartupTimeline.TimelineEvent> events, int limit) {
+        StringJoiner out = new StringJoiner(", ");
+        events.stream()
+                .filter(e -> BEAN_STEP.equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(limit)
+                .forEach(e -> out.add(tag(e.getStartupStep(), "beanName") + " " + e.getDuration().toMillis() + " ms"));
+        return out.toString();
+    }
+
+    private static String shortName(String stepName) {
+        return stepName.replace("spring.boot.application.", "").replace("spring.context.", "context.")
+                .replace("spring.beans.", "beans.").replace("spring.boot.", "");
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) return tag.getValue();
+        }
+        return "?";
+    }
 }
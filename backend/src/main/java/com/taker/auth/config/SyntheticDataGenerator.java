@@ -0,0 +1,274 @@
+package com.taker.auth.config;
+
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Loads a production-shaped dataset for load testing (profile "synthetic"; run with {@code gradlew generateData}).
+ * Volumes come from synthetic.users / synthetic.projects / synthetic.tasks (default 50k / 2k / 2M).
+ * <p>
+ * Shape: ~2% managers, ~10% team leaders, a handful of admins, the rest members. Every project gets one manager,
+ * 1–4 team leaders and a long-tailed number of members (most members on one project, some on two); tasks go to
+ * project members, skewed towards busy people, with a realistic status mix and due
+ * dates around today. Rows are written as JDBC batches in chunked transactions with pre-allocated ids, so 2M tasks
+ * load in a few minutes on a laptop Postgres. Generated users have emails ending in {@value #EMAIL_DOMAIN};
+ * the run is skipped when such users already exist. Same seed = same data.
+ */
+@Component
+@Profile("synthetic")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String EMAIL_DOMAIN = "@load.test";
+    private static final int CHUNK = 5000;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Priya", "James", "Mei", "Lucas", "Fatima", "Noah", "Sofia",
+            "Ravi", "Anna", "Omar", "Chloe", "Kenji", "Isabel", "Daniel", "Lakshmi", "Ethan", "Zara", "Mateo", "Grace"};
+    private static final String[] LAST_NAMES = {"Sharma", "Smith", "Chen", "Garcia", "Kumar", "Johnson", "Nguyen",
+            "Patel", "Müller", "Rossi", "Khan", "Brown", "Tanaka", "Silva", "Wilson", "Reddy", "Lopez", "Kim"};
+    private static final String[] PROJECT_WORDS = {"Atlas", "Beacon", "Comet", "Delta", "Ember", "Falcon", "Granite",
+            "Harbor", "Ion", "Juniper", "Keystone", "Lumen", "Meridian", "Nimbus", "Orbit", "Pioneer", "Quartz", "Relay"};
+    private static final String[] TASK_VERBS = {"Review", "Implement", "Test", "Document", "Fix", "Refactor", "Deploy", "Design"};
+    private static final String[] TASK_OBJECTS = {"login flow", "task board", "API pagination", "release notes",
+            "dashboard widgets", "error handling", "search filters", "mobile layout", "CI pipeline", "user profile page"};
+    // Status mix of a live tracker: mostly finished work.
+    private static final TaskStatus[] STATUSES = {TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.COMPLETED,
+            TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.ONGOING, TaskStatus.ONGOING,
+            TaskStatus.ONGOING, TaskStatus.NEED_TO_START, TaskStatus.NEED_TO_START, TaskStatus.NEED_TO_START,
+            TaskStatus.NEED_TO_START};
+    private static final String[] PROJECT_STATUSES = {"Active", "Active", "Active", "On hold", "Completed"};
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final PasswordEncoder passwordEncoder;
+    private final int userCount;
+    private final int projectCount;
+    private final int taskCount;
+    private final long seed;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbc, TransactionTemplate tx, PasswordEncoder passwordEncoder,
+                                  @Value("${synthetic.users:50000}") int userCount,
+                                  @Value("${synthetic.projects:2000}") int projectCount,
+                                  @Value("${synthetic.tasks:2000000}") int taskCount,
+                                  @Value("${synthetic.seed:42}") long seed) {
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.passwordEncoder = passwordEncoder;
+        this.userCount = Math.max(10, userCount);
+        this.projectCount = Math.max(1, projectCount);
+        this.taskCount = Math.max(0, taskCount);
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(String... args) {
+        Integer existing = jdbc.queryForObject("select count(*) from users where email like ?", Integer.class, "%" + EMAIL_DOMAIN);
+        if (existing != null && existing > 0) {
+            log.warn("Synthetic data already present ({} users with {} emails); skipping. Drop them to regenerate.", existing, EMAIL_DOMAIN);
+            return;
+        }
+        Random random = new Random(seed);
+        long start = System.nanoTime();
+        log.info("Generating synthetic data: {} users, {} projects, {} tasks (seed {})", userCount, projectCount, taskCount, seed);
+
+        Map<Role, List<Long>> usersByRole = insertUsers(random);
+        List<Long> projectIds = insertProjects(random);
+        List<List<Long>> membersByProject = insertAssignments(random, usersByRole, projectIds);
+        insertTasks(random, projectIds, membersByProject);
+
+        for (String table : List.of("users", "projects", "project_assignments", "tasks")) {
+            jdbc.execute("analyze " + table);
+        }
+        log.info("Synthetic data done in {} s", (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private Map<Role, List<Long>> insertUsers(Random random) {
+        long t0 = System.nanoTime();
+        String password = passwordEncoder.encode("Password@1");
+        List<Long> positionIds = jdbc.queryForList("select id from positions order by id", Long.class);
+        int admins = Math.max(1, userCount / 10_000);
+        int managers = Math.max(1, userCount / 50);
+        int leaders = Math.max(1, userCount / 10);
+        List<Long> ids = allocateIds("users", userCount);
+        Map<Role, List<Long>> byRole = new EnumMap<>(Role.class);
+        List<Object[]> rows = new ArrayList<>(CHUNK);
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < userCount; i++) {
+            Role role = i < admins ? Role.ADMIN : i < admins + managers ? Role.MANAGER
+                    : i < admins + managers + leaders ? Role.TEAM_LEADER : Role.MEMBER;
+            long id = ids.get(i);
+            byRole.computeIfAbsent(role, r -> new ArrayList<>()).add(id);
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Long positionId = role == Role.ADMIN || positionIds.isEmpty() ? null : positionIds.get(random.nextInt(positionIds.size()));
+            rows.add(new Object[]{id, name, "user" + i + EMAIL_DOMAIN, password, role.name(), titleFor(role),
+                    positionId, random.nextInt(20) == 0, 21 + random.nextInt(40), now});
+            if (rows.size() == CHUNK) flush(USER_INSERT, rows, USER_TYPES);
+        }
+        flush(USER_INSERT, rows, USER_TYPES);
+        logRate("users", userCount, t0);
+        return byRole;
+    }
+
+    private List<Long> insertProjects(Random random) {
+        long t0 = System.nanoTime();
+        List<Long> ids = allocateIds("projects", projectCount);
+        List<Object[]> rows = new ArrayList<>(CHUNK);
+        for (int i = 0; i < projectCount; i++) {
+            String name = PROJECT_WORDS[i % PROJECT_WORDS.length] + " " + PROJECT_WORDS[random.nextInt(PROJECT_WORDS.length)] + " " + (i + 1);
+            rows.add(new Object[]{ids.get(i), name, PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)], random.nextInt(101)});
+            if (rows.size() == CHUNK) flush(PROJECT_INSERT, rows, PROJECT_TYPES);
+        }
+        flush(PROJECT_INSERT, rows, PROJECT_TYPES);
+        logRate("projects", projectCount, t0);
+        return ids;
+    }
+
+    /** Returns the member ids of each project (same order as projectIds), manager and leaders included. */
+    private List<List<Long>> insertAssignments(Random random, Map<Role, List<Long>> usersByRole, List<Long> projectIds) {
+        long t0 = System.nanoTime();
+        List<List<Long>> members = new ArrayList<>(projectIds.size());
+        for (int p = 0; p < projectIds.size(); p++) members.add(new ArrayList<>());
+        List<Object[]> rows = new ArrayList<>(CHUNK);
+        int[] count = {0};
+
+        List<Long> managers = usersByRole.getOrDefault(Role.MANAGER, List.of());
+        List<Long> leaders = new ArrayList<>(usersByRole.getOrDefault(Role.TEAM_LEADER, List.of()));
+        List<Long> plainMembers = new ArrayList<>(usersByRole.getOrDefault(Role.MEMBER, List.of()));
+        Collections.shuffle(leaders, random);
+        Collections.shuffle(plainMembers, random);
+
+        // Long-tailed project sizes: a few big programmes, many small teams.
+        double[] weight = new double[projectIds.size()];
+        double total = 0;
+        for (int p = 0; p < weight.length; p++) {
+            weight[p] = 1.0 / Math.pow(1.0 - random.nextDouble() * 0.95, 0.8);
+            total += weight[p];
+        }
+        double[] cumulative = new double[weight.length];
+        double acc = 0;
+        for (int p = 0; p < weight.length; p++) {
+            acc += weight[p] / total;
+            cumulative[p] = acc;
+        }
+
+        for (int p = 0; p < projectIds.size(); p++) {
+            if (!managers.isEmpty()) {
+                addAssignment(rows, count, members, p, projectIds, managers.get(p % managers.size()), ProjectRole.MANAGER);
+            }
+            // Capped so a small run (fewer than 4 leaders) never assigns one leader twice (uk_assignments_project_user).
+            int leadersHere = Math.min(leaders.size(), 1 + random.nextInt(4));
+            for (int k = 0; k < leadersHere; k++) {
+                addAssignment(rows, count, members, p, projectIds, leaders.get((p * 4 + k) % leaders.size()), ProjectRole.TEAM_LEADER);
+            }
+        }
+        for (Long memberId : plainMembers) {
+            int first = pick(cumulative, random);
+            addAssignment(rows, count, members, first, projectIds, memberId, ProjectRole.TEAM_MEMBER);
+            if (random.nextInt(100) < 15) {
+                int second = pick(cumulative, random);
+                if (second != first) addAssignment(rows, count, members, second, projectIds, memberId, ProjectRole.TEAM_MEMBER);
+            }
+        }
+        flush(ASSIGNMENT_INSERT, rows, ASSIGNMENT_TYPES);
+        logRate("project_assignments", count[0], t0);
+        return members;
+    }
+
+    private void addAssignment(List<Object[]> rows, int[] count, List<List<Long>> members, int p, List<Long> projectIds,
+                               Long userId, ProjectRole role) {
+        rows.add(new Object[]{projectIds.get(p), userId, role.name()});
+        members.get(p).add(userId);
+        count[0]++;
+        if (rows.size() == CHUNK) flush(ASSIGNMENT_INSERT, rows, ASSIGNMENT_TYPES);
+    }
+
+    private void insertTasks(Random random, List<Long> projectIds, List<List<Long>> membersByProject) {
+        long t0 = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(CHUNK);
+        for (int i = 0; i < taskCount; i++) {
+            int p = random.nextInt(projectIds.size());
+            List<Long> members = membersByProject.get(p);
+            if (members.isEmpty()) continue;
+            // Square the uniform draw so earlier members of a project (managers, leads, core devs) get more tasks.
+            double r = random.nextDouble();
+            Long assignee = members.get((int) (r * r * members.size()));
+            String title = TASK_VERBS[random.nextInt(TASK_VERBS.length)] + " " + TASK_OBJECTS[random.nextInt(TASK_OBJECTS.length)];
+            String description = random.nextInt(10) == 0 ? "Generated task " + i + " for load testing" : null;
+            Date due = random.nextInt(8) == 0 ? null : Date.valueOf(today.plusDays(random.nextInt(361) - 180));
+            rows.add(new Object[]{title, description, STATUSES[random.nextInt(STATUSES.length)].getCode(), due, projectIds.get(p), assignee});
+            if (rows.size() == CHUNK) {
+                flush(TASK_INSERT, rows, TASK_TYPES);
+                if ((i + 1) % 200_000 == 0) log.info("  tasks: {} / {}", i + 1, taskCount);
+            }
+        }
+        flush(TASK_INSERT, rows, TASK_TYPES);
+        logRate("tasks", taskCount, t0);
+    }
+
+    private static final String USER_INSERT = "insert into users (id, full_name, email, password, role, title, position_id, " +
+            "is_temporary, age, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] USER_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT, Types.BOOLEAN, Types.INTEGER, Types.TIMESTAMP};
+    private static final String PROJECT_INSERT = "insert into projects (id, name, status, progress) values (?, ?, ?, ?)";
+    private static final int[] PROJECT_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER};
+    private static final String ASSIGNMENT_INSERT = "insert into project_assignments (project_id, user_id, project_role) values (?, ?, ?)";
+    private static final int[] ASSIGNMENT_TYPES = {Types.BIGINT, Types.BIGINT, Types.VARCHAR};
+    private static final String TASK_INSERT = "insert into tasks (title, description, status, due_date, project_id, assigned_to_id) " +
+            "values (?, ?, ?, ?, ?, ?)";
+    private static final int[] TASK_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.SMALLINT, Types.DATE, Types.BIGINT, Types.BIGINT};
+
+    /** Writes the buffered rows as one JDBC batch in its own transaction, then clears the buffer. */
+    private void flush(String sql, List<Object[]> rows, int[] types) {
+        if (rows.isEmpty()) return;
+        List<Object[]> batch = new ArrayList<>(rows);
+        rows.clear();
+        tx.executeWithoutResult(status -> jdbc.batchUpdate(sql, batch, types));
+    }
+
+    private List<Long> allocateIds(String table, int count) {
+        return jdbc.queryForList("select nextval(pg_get_serial_sequence(?, 'id')) from generate_series(1, ?)",
+                Long.class, table, count);
+    }
+
+    private static int pick(double[] cumulative, Random random) {
+        int i = Arrays.binarySearch(cumulative, random.nextDouble());
+        int index = i >= 0 ? i : -i - 1;
+        return Math.min(index, cumulative.length - 1);
+    }
+
+    private static String titleFor(Role role) {
+        return switch (role) {
+            case ADMIN -> "Administrator";
+            case MANAGER -> "Engineering Manager";
+            case TEAM_LEADER -> "Tech Lead";
+            case MEMBER -> "Developer";
+        };
+    }
+
+    private static void logRate(String table, long rows, long startNanos) {
+        long ms = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("  {}: {} rows in {} ms ({} rows/s)", table, rows, ms, rows * 1000 / ms);
+    }
+}
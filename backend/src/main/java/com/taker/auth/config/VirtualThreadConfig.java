@@ -0,0 +1,79 @@
+package com.taker.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Request execution mode. With {@code spring.threads.virtual.enabled=true} Spring Boot runs Tomcat requests and
+ * {@code @Async} methods on virtual threads; most request time is spent waiting on JDBC, so this removes the
+ * 200-thread ceiling. The pool then becomes the only bound, so (unless {@code app.jdbc.limiter.enabled=false})
+ * the DataSource is wrapped in a {@link ConnectionLimitingDataSource} with one permit per pool connection.
+ * Metrics: jdbc.limiter.active and jdbc.limiter.waiting.
+ */
+@Configuration
+@EnableAsync
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    /** Static so it is registered before the DataSource bean is created. */
+    @Bean
+    static BeanPostProcessor connectionLimiterPostProcessor(Environment env) {
+        boolean virtual = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean enabled = env.getProperty("app.jdbc.limiter.enabled", Boolean.class, virtual);
+        int configuredPermits = env.getProperty("app.jdbc.limiter.permits", Integer.class, 0);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                // 0 = one permit per pool connection. The pool size is bound by now; unset (-1) means Hikari's default.
+                int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                int permits = configuredPermits > 0 ? configuredPermits : poolSize;
+                log.info("JDBC limiter on '{}': {} permits, {} ms timeout (virtual threads {})",
+                        beanName, permits, hikari.getConnectionTimeout(), virtual ? "on" : "off");
+                return new ConnectionLimitingDataSource(hikari, permits, hikari.getConnectionTimeout());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionLimitingDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter == null) {
+                return;
+            }
+            Gauge.builder("jdbc.limiter.active", limiter, ConnectionLimitingDataSource::active)
+                    .description("Connections currently held through the JDBC limiter").register(registry);
+            Gauge.builder("jdbc.limiter.waiting", limiter, ConnectionLimitingDataSource::waiting)
+                    .description("Threads waiting for a JDBC limiter permit").register(registry);
+        };
+    }
+
+    private static ConnectionLimitingDataSource unwrapLimiter(DataSource dataSource) {
+        if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+            return limiter;
+        }
+        try {
+            return dataSource.isWrapperFor(ConnectionLimitingDataSource.class)
+                    ? dataSource.unwrap(ConnectionLimitingDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
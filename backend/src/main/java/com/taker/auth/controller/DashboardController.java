@@ -0,0 +1,30 @@
+package com.taker.auth.controller;
+
+import com.taker.auth.dto.ApiResponse;
+import com.taker.auth.dto.DashboardDto;
+import com.taker.auth.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Dashboard", description = "Aggregated counts for the dashboard screens - requires auth.")
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @Operation(summary = "Dashboard rollups", description = "For the caller's visible scope: task counts by status per project, " +
+            "overdue tasks, the 10 assignees with most open tasks and users by role. Cached for a few seconds per scope.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardDto>> get() {
+        return ResponseEntity.ok(ApiResponse.success("OK", dashboardService.forCurrentUser()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.taker.auth.controller;
+
+import com.taker.auth.service.ChangeEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Events", description = "Server-sent events for task and assignment changes - requires auth.")
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    private final ChangeEventHub changeEventHub;
+
+    public EventController(ChangeEventHub changeEventHub) {
+        this.changeEventHub = changeEventHub;
+    }
+
+    @Operation(summary = "Change stream", description = "text/event-stream of committed changes the caller can see: " +
+            "\"task\" (created/updated/deleted), \"assignment\" (assigned) and \"resync\" (refetch; events were dropped " +
+            "or too many rows changed). Starts with \"ready\"; a comment every ~25 s keeps it open. Reconnect when it ends.")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return changeEventHub.subscribe();
+    }
+}
@@ -5,7 +5,10 @@ import com.taker.auth.dto.CreateProjectRequest;
 import com.taker.auth.dto.ProjectDto;
 import com.taker.auth.dto.ProjectTeamDto;
 import com.taker.auth.service.DataService;
+import com.taker.auth.service.ETagService;
 import com.taker.auth.service.ProjectService;
+import com.taker.auth.util.ConditionalGet;
+import com.taker.auth.util.Paging;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,7 +20,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,16 +33,31 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final DataService dataService;
+    private final ETagService eTagService;
 
-    public ProjectController(ProjectService projectService, DataService dataService) {
+    public ProjectController(ProjectService projectService, DataService dataService, ETagService eTagService) {
         this.projectService = projectService;
         this.dataService = dataService;
+        this.eTagService = eTagService;
     }
 
-    @Operation(summary = "List projects", description = "Returns all projects with id, name, status, progress")
+    @Operation(summary = "List projects", description = "Returns all projects with id, name, status, progress " +
+            "(share of completed tasks). Paging: ?limit=100 then ?after=<X-Next-Cursor header>. " +
+            "Sends an ETag; with a matching If-None-Match the answer is 304 without body.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProjectDto>>> getAll() {
-        return ResponseEntity.ok(ApiResponse.success("OK", projectService.findAll()));
+    public ResponseEntity<ApiResponse<List<ProjectDto>>> getAll(
+            @Parameter(description = "Page size (max 500). Omit for the full list.") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor: last project id of the previous page") @RequestParam(required = false) Long after,
+            WebRequest request) {
+        String etag = eTagService.projects(after, limit);
+        if (ConditionalGet.notModified(request, etag)) return null;
+        List<ProjectDto> list = projectService.findAll(after, limit);
+        ResponseEntity.BodyBuilder response = ConditionalGet.ok(etag);
+        Integer pageSize = Paging.clamp(limit);
+        if (pageSize != null && list.size() == pageSize) {
+            response.header(Paging.NEXT_CURSOR_HEADER, String.valueOf(list.get(list.size() - 1).getId()));
+        }
+        return response.body(ApiResponse.success("OK", list));
     }
 
     @Operation(summary = "Create project", description = "Create a new project. Requires auth.")
@@ -53,14 +73,17 @@ public class ProjectController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get project team", description = "Returns project team: manager, team leader(s), team member(s) with roles and photos.")
+    @Operation(summary = "Get project team", description = "Returns project team: manager, team leader(s), team member(s) with roles and photos. " +
+            "Sends an ETag; with a matching If-None-Match the answer is 304 without body.")
     @GetMapping("/{id}/team")
     public ResponseEntity<ApiResponse<ProjectTeamDto>> getTeam(
-            @Parameter(description = "Project ID") @PathVariable Long id) {
+            @Parameter(description = "Project ID") @PathVariable Long id, WebRequest request) {
+        String etag = eTagService.projectTeam(id);
+        if (ConditionalGet.notModified(request, etag)) return null;
         ProjectTeamDto team = dataService.getProjectTeam(id);
         if (team == null) {
             return ResponseEntity.status(404).body(ApiResponse.failure(404, "Project not found"));
         }
-        return ResponseEntity.ok(ApiResponse.success("OK", team));
+        return ConditionalGet.ok(etag).body(ApiResponse.success("OK", team));
     }
 }
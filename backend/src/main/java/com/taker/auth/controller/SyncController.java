@@ -0,0 +1,34 @@
+package com.taker.auth.controller;
+
+import com.taker.auth.dto.ApiResponse;
+import com.taker.auth.dto.SyncDto;
+import com.taker.auth.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sync", description = "Delta sync for offline clients - requires auth.")
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @Operation(summary = "Changes since a version", description = "Tasks, projects, assignments and users visible to the " +
+            "caller that changed at or after since, plus deleted ids, and the version to pass next time. " +
+            "full=true (no rows) means reload through the list endpoints first; it is returned when since is missing.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncDto>> changes(
+            @Parameter(description = "version from the previous response") @RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(ApiResponse.success("OK", syncService.changesSince(since)));
+    }
+}
@@ -2,17 +2,27 @@ package com.taker.auth.controller;
 
 import com.taker.auth.dto.ApiResponse;
 import com.taker.auth.dto.AssignTaskRequest;
+import com.taker.auth.dto.BatchCreateTasksRequest;
+import com.taker.auth.dto.BatchUpdateTaskStatusRequest;
 import com.taker.auth.dto.CreateTaskRequest;
+import com.taker.auth.dto.TaskBatchResult;
 import com.taker.auth.dto.TaskDto;
+import com.taker.auth.dto.TaskFilter;
 import com.taker.auth.dto.UpdateTaskStatusRequest;
+import com.taker.auth.service.ETagService;
 import com.taker.auth.service.TaskService;
+import com.taker.auth.util.ConditionalGet;
+import com.taker.auth.util.Paging;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Tasks", description = "Task CRUD, status updates, assign - requires auth. Frontend expects { success, message, data }.")
@@ -21,19 +31,42 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ETagService eTagService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ETagService eTagService) {
         this.taskService = taskService;
+        this.eTagService = eTagService;
     }
 
-    @Operation(summary = "List tasks", description = "By default returns tasks visible to current user (role-based). Use ?userId=3 for that user's tasks only.")
+    @Operation(summary = "List tasks", description = "By default returns tasks visible to current user (role-based). Use ?userId=3 for that user's tasks only. " +
+            "Optional filters: status, projectId, assigneeId, dueFrom/dueTo (yyyy-MM-dd). Paging: ?limit=100 then ?after=<X-Next-Cursor header>. " +
+            "Sends an ETag; with a matching If-None-Match the answer is 304 without body.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<TaskDto>>> getTasks(
-            @RequestParam(required = false) Long userId) {
-        List<TaskDto> tasks = userId != null
-                ? taskService.findByAssignedUser(userId)
-                : taskService.findTasksForCurrentUser();
-        return ResponseEntity.ok(ApiResponse.success("OK", tasks));
+            @RequestParam(required = false) Long userId,
+            @Parameter(description = "need_to_start | ongoing | completed") @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @Parameter(description = "Page size (max 500). Omit for the full list.") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor: last task id of the previous page") @RequestParam(required = false) Long after,
+            WebRequest request) {
+        if (userId != null) {
+            String etag = eTagService.tasksAssignedTo(userId);
+            if (ConditionalGet.notModified(request, etag)) return null;
+            return ConditionalGet.ok(etag).body(ApiResponse.success("OK", taskService.findByAssignedUser(userId)));
+        }
+        TaskFilter filter = new TaskFilter(status, projectId, assigneeId, dueFrom, dueTo);
+        String etag = eTagService.tasks(filter, after, limit);
+        if (ConditionalGet.notModified(request, etag)) return null;
+        List<TaskDto> tasks = taskService.findTasksForCurrentUser(filter, after, limit);
+        ResponseEntity.BodyBuilder response = ConditionalGet.ok(etag);
+        Integer pageSize = Paging.clamp(limit);
+        if (pageSize != null && tasks.size() == pageSize) {
+            response.header(Paging.NEXT_CURSOR_HEADER, String.valueOf(tasks.get(tasks.size() - 1).getId()));
+        }
+        return response.body(ApiResponse.success("OK", tasks));
     }
 
     @Operation(summary = "Create task", description = "Create task. Frontend: title, status (default need_to_start), dueDate optional.")
@@ -42,6 +75,22 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success("Task created", taskService.createTask(request)));
     }
 
+    @Operation(summary = "Create tasks in bulk", description = "Body: { tasks: [CreateTaskRequest...] } (max 500). " +
+            "Returns one result per item in request order: { index, success, error, task }. Invalid items are skipped, the rest are created.")
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<TaskBatchResult>>> createTasks(@Valid @RequestBody BatchCreateTasksRequest request) {
+        List<TaskBatchResult> results = taskService.createTasks(request.getTasks());
+        return ResponseEntity.ok(ApiResponse.success(summary("Created", results), results));
+    }
+
+    @Operation(summary = "Update task statuses in bulk", description = "Body: { updates: [{ id, status }...] } (max 500). " +
+            "Returns one result per item in request order: { index, success, error, task }.")
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<List<TaskBatchResult>>> updateStatuses(@Valid @RequestBody BatchUpdateTaskStatusRequest request) {
+        List<TaskBatchResult> results = taskService.updateStatuses(request.getUpdates());
+        return ResponseEntity.ok(ApiResponse.success(summary("Updated", results), results));
+    }
+
     @Operation(summary = "Update task status", description = "Set status: need_to_start, ongoing, completed.")
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApiResponse<TaskDto>> updateStatus(
@@ -67,4 +116,9 @@ public class TaskController {
                 request.getProjectId());
         return ResponseEntity.ok(ApiResponse.success("Task assigned", task));
     }
+
+    private static String summary(String verb, List<TaskBatchResult> results) {
+        long ok = results.stream().filter(TaskBatchResult::isSuccess).count();
+        return verb + " " + ok + " of " + results.size() + " tasks";
+    }
 }
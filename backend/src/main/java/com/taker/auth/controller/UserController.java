@@ -2,12 +2,16 @@ package com.taker.auth.controller;
 
 import com.taker.auth.dto.*;
 import com.taker.auth.service.DataService;
+import com.taker.auth.service.ETagService;
+import com.taker.auth.util.ConditionalGet;
+import com.taker.auth.util.Paging;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -18,9 +22,11 @@ import java.util.Map;
 public class UserController {
 
     private final DataService dataService;
+    private final ETagService eTagService;
 
-    public UserController(DataService dataService) {
+    public UserController(DataService dataService, ETagService eTagService) {
         this.dataService = dataService;
+        this.eTagService = eTagService;
     }
 
     @Operation(summary = "Create user", description = "Admin/Manager: Add new user with role and position. Use fake: fullName=Jane, email=jane@test.com, role=member, position=Developer")
@@ -52,29 +58,42 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("OK", Map.of("count", count)));
     }
 
-    @Operation(summary = "Get all users", description = "Returns all users from DB with role, name, email, etc. No filter = full list.")
+    @Operation(summary = "Get all users", description = "Returns all users from DB with role, name, email, etc. No filter = full list. " +
+            "Paging: ?limit=100 then ?after=<X-Next-Cursor header>.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<UserSummaryDto>>> getAll(
             @Parameter(description = "Filter as this role") @RequestParam(required = false) String forRole,
-            @Parameter(description = "Current user email for filtering") @RequestParam(required = false) String forEmail) {
+            @Parameter(description = "Current user email for filtering") @RequestParam(required = false) String forEmail,
+            @Parameter(description = "Page size (max 500). Omit for the full list.") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor: last user id of the previous page") @RequestParam(required = false) Long after) {
         List<UserSummaryDto> list = (forRole != null || (forEmail != null && !forEmail.isBlank()))
-                ? dataService.getAllUsersFiltered(forRole, forEmail)
-                : dataService.getAllUsers();
-        return ResponseEntity.ok(ApiResponse.success("OK", list));
+                ? dataService.getAllUsersFiltered(forRole, forEmail, after, limit)
+                : dataService.getAllUsers(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        Integer pageSize = Paging.clamp(limit);
+        if (pageSize != null && list.size() == pageSize) {
+            response.header(Paging.NEXT_CURSOR_HEADER, String.valueOf(list.get(list.size() - 1).getId()));
+        }
+        return response.body(ApiResponse.success("OK", list));
     }
 
-    @Operation(summary = "Get user by ID", description = "Returns full user details for profile/details page.")
+    @Operation(summary = "Get user by ID", description = "Returns full user details for profile/details page. " +
+            "Sends an ETag; with a matching If-None-Match the answer is 304 without body.")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<UserSummaryDto>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<UserSummaryDto>> getById(@PathVariable Long id, WebRequest request) {
+        String etag = eTagService.user(id);
+        if (ConditionalGet.notModified(request, etag)) return null;
         return dataService.getUserById(id)
-                .map(dto -> ResponseEntity.ok(ApiResponse.success("OK", dto)))
+                .map(dto -> ConditionalGet.ok(etag).body(ApiResponse.success("OK", dto)))
                 .orElse(ResponseEntity.status(404).body(ApiResponse.failure(404, "User not found")));
     }
 
-    @Operation(summary = "Kick user", description = "Admin: kick anyone except admin. Manager: kick team leader or team member. Removes user from system.")
+    @Operation(summary = "Kick user", description = "Admin: kick anyone except admin. Manager: kick team leader or team member. Removes user from system; their tasks are deleted unless reassignTo is given.")
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> kick(@Parameter(description = "User ID to kick") @PathVariable Long id) {
-        dataService.kickUser(id);
+    public ResponseEntity<ApiResponse<Void>> kick(
+            @Parameter(description = "User ID to kick") @PathVariable Long id,
+            @Parameter(description = "Move the user's tasks to this user instead of deleting them") @RequestParam(required = false) Long reassignTo) {
+        dataService.kickUser(id, reassignTo);
         return ResponseEntity.ok(ApiResponse.success("User removed", null));
     }
 
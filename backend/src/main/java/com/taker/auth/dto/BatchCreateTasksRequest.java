@@ -0,0 +1,19 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Create many tasks at once; each item is validated and reported on separately")
+public class BatchCreateTasksRequest {
+
+    @Schema(description = "Tasks to create (max 500)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "tasks is required")
+    @Size(max = 500, message = "At most 500 tasks per batch")
+    private List<CreateTaskRequest> tasks;
+
+    public List<CreateTaskRequest> getTasks() { return tasks; }
+    public void setTasks(List<CreateTaskRequest> tasks) { this.tasks = tasks; }
+}
@@ -0,0 +1,41 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Update the status of many tasks at once; each item is reported on separately")
+public class BatchUpdateTaskStatusRequest {
+
+    @Schema(description = "Status changes (max 500)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "updates is required")
+    @Size(max = 500, message = "At most 500 updates per batch")
+    private List<Item> updates;
+
+    public List<Item> getUpdates() { return updates; }
+    public void setUpdates(List<Item> updates) { this.updates = updates; }
+
+    @Schema(description = "One status change")
+    public static class Item {
+
+        @Schema(description = "Task ID", example = "1")
+        private Long id;
+
+        @Schema(description = "New status: need_to_start, ongoing, completed", example = "completed")
+        private String status;
+
+        public Item() {}
+
+        public Item(Long id, String status) {
+            this.id = id;
+            this.status = status;
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+    }
+}
@@ -0,0 +1,43 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A committed change pushed on /api/events; the SSE event name is the type")
+public class ChangeEventDto {
+    @Schema(description = "task, assignment or resync (refetch; events were dropped or too many rows changed)", example = "task")
+    private String type;
+    @Schema(description = "task: created, updated or deleted; assignment: assigned", example = "updated")
+    private String action;
+    @Schema(description = "Task id (task events)", example = "41")
+    private Long id;
+    @Schema(example = "5")
+    private Long projectId;
+    @Schema(description = "Assignee (task events) or assigned user (assignment events)", example = "12")
+    private Long userId;
+    @Schema(description = "Task status after the change", example = "ongoing")
+    private String status;
+    @Schema(description = "Role on the project (assignment events)", example = "TEAM_MEMBER")
+    private String projectRole;
+
+    public ChangeEventDto() {}
+
+    public ChangeEventDto(String type, String action) {
+        this.type = type;
+        this.action = action;
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getProjectRole() { return projectRole; }
+    public void setProjectRole(String projectRole) { this.projectRole = projectRole; }
+}
@@ -0,0 +1,28 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Assignee and their open task count")
+public class DashboardAssigneeDto {
+    @Schema(example = "12")
+    private Long userId;
+    @Schema(example = "Jane Doe")
+    private String name;
+    @Schema(description = "Tasks not completed", example = "9")
+    private long openTasks;
+
+    public DashboardAssigneeDto() {}
+
+    public DashboardAssigneeDto(Long userId, String name, long openTasks) {
+        this.userId = userId;
+        this.name = name;
+        this.openTasks = openTasks;
+    }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public long getOpenTasks() { return openTasks; }
+    public void setOpenTasks(long openTasks) { this.openTasks = openTasks; }
+}
@@ -0,0 +1,36 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Dashboard rollups for the caller's visible scope")
+public class DashboardDto {
+    @Schema(description = "Scope the numbers cover: all, or the caller's role and id", example = "manager:4")
+    private String scope;
+    @Schema(description = "When the rollups were computed; responses are cached briefly per scope")
+    private Instant generatedAt;
+    @Schema(description = "Task counts by status per project")
+    private List<DashboardProjectDto> projects;
+    @Schema(description = "Tasks due before today and not completed", example = "7")
+    private long overdue;
+    @Schema(description = "Assignees with the most open (not completed) tasks")
+    private List<DashboardAssigneeDto> topAssignees;
+    @Schema(description = "Visible users by role", example = "{\"manager\": 3, \"team_leader\": 9, \"member\": 60}")
+    private Map<String, Long> usersByRole;
+
+    public String getScope() { return scope; }
+    public void setScope(String scope) { this.scope = scope; }
+    public Instant getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(Instant generatedAt) { this.generatedAt = generatedAt; }
+    public List<DashboardProjectDto> getProjects() { return projects; }
+    public void setProjects(List<DashboardProjectDto> projects) { this.projects = projects; }
+    public long getOverdue() { return overdue; }
+    public void setOverdue(long overdue) { this.overdue = overdue; }
+    public List<DashboardAssigneeDto> getTopAssignees() { return topAssignees; }
+    public void setTopAssignees(List<DashboardAssigneeDto> topAssignees) { this.topAssignees = topAssignees; }
+    public Map<String, Long> getUsersByRole() { return usersByRole; }
+    public void setUsersByRole(Map<String, Long> usersByRole) { this.usersByRole = usersByRole; }
+}
@@ -0,0 +1,30 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Task counts of one project on the dashboard")
+public class DashboardProjectDto {
+    @Schema(description = "Null for tasks without a project", example = "1")
+    private Long projectId;
+    @Schema(example = "Website Redesign")
+    private String projectName;
+    @Schema(description = "Task count per status", example = "{\"need_to_start\": 4, \"ongoing\": 2, \"completed\": 6}")
+    private Map<String, Long> statusCounts;
+    @Schema(example = "12")
+    private long total;
+    @Schema(example = "1")
+    private long overdue;
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+    public String getProjectName() { return projectName; }
+    public void setProjectName(String projectName) { this.projectName = projectName; }
+    public Map<String, Long> getStatusCounts() { return statusCounts; }
+    public void setStatusCounts(Map<String, Long> statusCounts) { this.statusCounts = statusCounts; }
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    public long getOverdue() { return overdue; }
+    public void setOverdue(long overdue) { this.overdue = overdue; }
+}
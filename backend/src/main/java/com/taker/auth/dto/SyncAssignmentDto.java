@@ -0,0 +1,33 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A user's role on a project")
+public class SyncAssignmentDto {
+    @Schema(example = "31")
+    private Long id;
+    @Schema(example = "5")
+    private Long projectId;
+    @Schema(example = "12")
+    private Long userId;
+    @Schema(example = "TEAM_LEADER")
+    private String projectRole;
+
+    public SyncAssignmentDto() {}
+
+    public SyncAssignmentDto(Long id, Long projectId, Long userId, String projectRole) {
+        this.id = id;
+        this.projectId = projectId;
+        this.userId = userId;
+        this.projectRole = projectRole;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getProjectRole() { return projectRole; }
+    public void setProjectRole(String projectRole) { this.projectRole = projectRole; }
+}
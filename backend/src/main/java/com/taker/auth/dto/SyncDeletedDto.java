@@ -0,0 +1,27 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Ids deleted since the requested version, per entity")
+public class SyncDeletedDto {
+    @Schema(example = "[101, 102]")
+    private List<Long> tasks = new ArrayList<>();
+    @Schema(example = "[]")
+    private List<Long> projects = new ArrayList<>();
+    @Schema(example = "[31]")
+    private List<Long> assignments = new ArrayList<>();
+    @Schema(example = "[]")
+    private List<Long> users = new ArrayList<>();
+
+    public List<Long> getTasks() { return tasks; }
+    public void setTasks(List<Long> tasks) { this.tasks = tasks; }
+    public List<Long> getProjects() { return projects; }
+    public void setProjects(List<Long> projects) { this.projects = projects; }
+    public List<Long> getAssignments() { return assignments; }
+    public void setAssignments(List<Long> assignments) { this.assignments = assignments; }
+    public List<Long> getUsers() { return users; }
+    public void setUsers(List<Long> users) { this.users = users; }
+}
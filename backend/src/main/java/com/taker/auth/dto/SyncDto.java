@@ -0,0 +1,40 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Changes visible to the caller since a change version")
+public class SyncDto {
+    @Schema(description = "Pass as since on the next call; rows near it may be sent twice, never missed", example = "884213")
+    private long version;
+    @Schema(description = "True when changes cannot be sent as a delta: reload through the list endpoints, " +
+            "then sync from version. No rows are included.", example = "false")
+    private boolean full;
+    @Schema(description = "Tasks created or changed")
+    private List<TaskDto> tasks = new ArrayList<>();
+    @Schema(description = "Projects created or changed, including progress moved by task changes")
+    private List<ProjectDto> projects = new ArrayList<>();
+    @Schema(description = "Project assignments created or changed")
+    private List<SyncAssignmentDto> assignments = new ArrayList<>();
+    @Schema(description = "Users created or changed, including those whose tasks or assignments changed")
+    private List<UserSummaryDto> users = new ArrayList<>();
+    @Schema(description = "Deleted ids")
+    private SyncDeletedDto deleted = new SyncDeletedDto();
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+    public boolean isFull() { return full; }
+    public void setFull(boolean full) { this.full = full; }
+    public List<TaskDto> getTasks() { return tasks; }
+    public void setTasks(List<TaskDto> tasks) { this.tasks = tasks; }
+    public List<ProjectDto> getProjects() { return projects; }
+    public void setProjects(List<ProjectDto> projects) { this.projects = projects; }
+    public List<SyncAssignmentDto> getAssignments() { return assignments; }
+    public void setAssignments(List<SyncAssignmentDto> assignments) { this.assignments = assignments; }
+    public List<UserSummaryDto> getUsers() { return users; }
+    public void setUsers(List<UserSummaryDto> users) { this.users = users; }
+    public SyncDeletedDto getDeleted() { return deleted; }
+    public void setDeleted(SyncDeletedDto deleted) { this.deleted = deleted; }
+}
@@ -0,0 +1,45 @@
+package com.taker.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one item of a bulk task request, in request order")
+public class TaskBatchResult {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "true when the item was written")
+    private boolean success;
+
+    @Schema(description = "Why the item was skipped (null on success)", example = "You cannot update this task's status")
+    private String error;
+
+    @Schema(description = "The task as stored (null on failure)")
+    private TaskDto task;
+
+    public TaskBatchResult() {}
+
+    public static TaskBatchResult ok(int index, TaskDto task) {
+        TaskBatchResult r = new TaskBatchResult();
+        r.index = index;
+        r.success = true;
+        r.task = task;
+        return r;
+    }
+
+    public static TaskBatchResult failed(int index, String error) {
+        TaskBatchResult r = new TaskBatchResult();
+        r.index = index;
+        r.error = error;
+        return r;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public TaskDto getTask() { return task; }
+    public void setTask(TaskDto task) { this.task = task; }
+}
@@ -1,5 +1,6 @@
 package com.taker.auth.dto;
 
+import com.taker.auth.entity.TaskStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -25,6 +26,28 @@ public class TaskDto {
     @Schema(example = "Website Redesign", description = "Project name")
     private String projectName;
 
+    public TaskDto() {}
+
+    /** Used by JPQL constructor expressions so task lists can be projected straight from SQL. */
+    public TaskDto(Long id, String title, TaskStatus status, LocalDate dueDate, String description,
+                   Long assigneeId, String assigneeName, Long projectId, String projectName) {
+        this(id, title, status != null ? status.getValue() : null, dueDate, description,
+                assigneeId, assigneeName, projectId, projectName);
+    }
+
+    public TaskDto(Long id, String title, String status, LocalDate dueDate, String description,
+                   Long assigneeId, String assigneeName, Long projectId, String projectName) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.dueDate = dueDate;
+        this.description = description;
+        this.assigneeId = assigneeId;
+        this.assigneeName = assigneeName;
+        this.projectId = projectId;
+        this.projectName = projectName;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,37 @@
+package com.taker.auth.dto;
+
+import java.time.LocalDate;
+
+/** Optional server-side filters for GET /api/tasks. Null fields are ignored. */
+public class TaskFilter {
+    private String status;
+    private Long projectId;
+    private Long assigneeId;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+
+    public TaskFilter() {}
+
+    public TaskFilter(String status, Long projectId, Long assigneeId, LocalDate dueFrom, LocalDate dueTo) {
+        this.status = status;
+        this.projectId = projectId;
+        this.assigneeId = assigneeId;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+    }
+
+    public static TaskFilter none() {
+        return new TaskFilter();
+    }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+    public Long getAssigneeId() { return assigneeId; }
+    public void setAssigneeId(Long assigneeId) { this.assigneeId = assigneeId; }
+    public LocalDate getDueFrom() { return dueFrom; }
+    public void setDueFrom(LocalDate dueFrom) { this.dueFrom = dueFrom; }
+    public LocalDate getDueTo() { return dueTo; }
+    public void setDueTo(LocalDate dueTo) { this.dueTo = dueTo; }
+}
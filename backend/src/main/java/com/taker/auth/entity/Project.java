@@ -5,7 +5,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", uniqueConstraints = @UniqueConstraint(name = "uk_projects_name", columnNames = "name"),
+        indexes = @Index(name = "idx_projects_change_version", columnList = "change_version"))
 public class Project {
 
     @Id
@@ -20,6 +21,9 @@ public class Project {
 
     private int progress = 0;
 
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProjectAssignment> assignments = new ArrayList<>();
 
@@ -36,6 +40,7 @@ public class Project {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getChangeVersion() { return changeVersion; }
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
     public String getStatus() { return status; }
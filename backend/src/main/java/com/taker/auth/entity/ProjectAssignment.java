@@ -3,7 +3,11 @@ package com.taker.auth.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "project_assignments")
+@Table(name = "project_assignments", indexes = {
+        // Visibility joins: "projects where user X has role R", then "members of project P" (unique key).
+        @Index(name = "idx_assignments_user_role", columnList = "user_id, project_role, project_id"),
+        @Index(name = "idx_project_assignments_change_version", columnList = "change_version")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_assignments_project_user", columnNames = {"project_id", "user_id"}))
 public class ProjectAssignment {
 
     @Id
@@ -22,6 +26,9 @@ public class ProjectAssignment {
     @Column(name = "project_role", nullable = false)
     private ProjectRole projectRole;
 
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     public ProjectAssignment() {}
 
     public ProjectAssignment(Project project, User user, ProjectRole projectRole) {
@@ -32,6 +39,7 @@ public class ProjectAssignment {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getChangeVersion() { return changeVersion; }
     public Project getProject() { return project; }
     public void setProject(Project project) { this.project = project; }
     public User getUser() { return user; }
@@ -4,7 +4,15 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Keyset paging is "order by id"; each filter column is paired with id so a page is one index range scan.
+        @Index(name = "idx_tasks_assignee_id", columnList = "assigned_to_id, id"),
+        @Index(name = "idx_tasks_project_id", columnList = "project_id, id"),
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_assignee_status", columnList = "assigned_to_id, status"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+        @Index(name = "idx_tasks_change_version", columnList = "change_version")
+})
 public class Task {
 
     @Id
@@ -18,7 +26,7 @@ public class Task {
     private String description;
 
     @Column(nullable = false)
-    private String status = "todo";
+    private TaskStatus status = TaskStatus.NEED_TO_START;
 
     @Column(name = "due_date")
     private LocalDate dueDate;
@@ -31,9 +39,16 @@ public class Task {
     @JoinColumn(name = "assigned_to_id")
     private User assignedTo;
 
+    /**
+     * Id of the transaction that last inserted or updated the row, stamped by the database (see
+     * V6__change_versions_and_tombstones) so JDBC and bulk writes are covered too; read by GET /api/sync.
+     */
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     public Task() {}
 
-    public Task(String title, String status, LocalDate dueDate) {
+    public Task(String title, TaskStatus status, LocalDate dueDate) {
         this.title = title;
         this.status = status;
         this.dueDate = dueDate;
@@ -41,10 +56,11 @@ public class Task {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getChangeVersion() { return changeVersion; }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     public LocalDate getDueDate() { return dueDate; }
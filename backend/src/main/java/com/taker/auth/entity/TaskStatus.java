@@ -0,0 +1,48 @@
+package com.taker.auth.entity;
+
+/**
+ * Task status, stored as a small integer ({@link #getCode()}) and sent to clients as {@link #getValue()}.
+ * Codes are persisted: never renumber, only append.
+ */
+public enum TaskStatus {
+    NEED_TO_START(0, "need_to_start"),
+    ONGOING(1, "ongoing"),
+    COMPLETED(2, "completed");
+
+    private final short code;
+    private final String value;
+
+    TaskStatus(int code, String value) {
+        this.code = (short) code;
+        this.value = value;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    /** API spelling: need_to_start, ongoing, completed. */
+    public String getValue() {
+        return value;
+    }
+
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus s : values()) {
+            if (s.code == code) return s;
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+
+    /**
+     * Reads any spelling clients and older data use ("In progress", "done", "todo", "yet_to_start", ...);
+     * null for blank or unrecognised input.
+     */
+    public static TaskStatus parse(String s) {
+        if (s == null || s.isBlank()) return null;
+        String lower = s.trim().toLowerCase().replace(' ', '_');
+        if (lower.contains("ongoing") || "in_progress".equals(lower)) return ONGOING;
+        if (lower.contains("complete") || "done".equals(lower)) return COMPLETED;
+        if (lower.contains("start") || "todo".equals(lower)) return NEED_TO_START;
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taker.auth.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/** Stores {@link TaskStatus} as its smallint code. */
+@Converter(autoApply = true)
+public class TaskStatusConverter implements AttributeConverter<TaskStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public TaskStatus convertToEntityAttribute(Short code) {
+        return code != null ? TaskStatus.fromCode(code) : TaskStatus.NEED_TO_START;
+    }
+}
@@ -0,0 +1,67 @@
+package com.taker.auth.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Number of tasks per (assignee, project, status), kept up to date by triggers on the tasks table
+ * (migration V3__task_status_counters). 0 stands for "no assignee" / "no project".
+ * Read-only from the application.
+ */
+@Entity
+@Immutable
+@IdClass(TaskStatusCount.Key.class)
+@Table(name = "task_status_counts", indexes = {
+        @Index(name = "idx_task_status_counts_user", columnList = "user_id, status"),
+        @Index(name = "idx_task_status_counts_project", columnList = "project_id, status")
+})
+public class TaskStatusCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /** {@link TaskStatus#getCode()}; converters do not apply to id columns. */
+    @Id
+    @Column(name = "status")
+    private Short status;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    /** Transaction that last rewrote the row, i.e. last wrote one of its tasks (V7); feeds the list ETags. */
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
+    public Long getUserId() { return userId; }
+    public Long getProjectId() { return projectId; }
+    public TaskStatus getStatus() { return TaskStatus.fromCode(status); }
+    public long getTaskCount() { return taskCount; }
+    public Long getChangeVersion() { return changeVersion; }
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long projectId;
+        private Short status;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && Objects.equals(userId, k.userId) && Objects.equals(projectId, k.projectId)
+                    && Objects.equals(status, k.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, projectId, status);
+        }
+    }
+}
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_change_version", columnList = "change_version"))
 public class User {
 
     @Id
@@ -56,6 +56,9 @@ public class User {
     @Column(name = "otp_expires_at")
     private Instant otpExpiresAt;
 
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     public User() {}
 
     public User(String fullName, String email, String idCardNumber, String password, Role role) {
@@ -68,6 +71,7 @@ public class User {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getChangeVersion() { return changeVersion; }
     public String getFullName() { return fullName; }
     public void setFullName(String fullName) { this.fullName = fullName; }
     public String getEmail() { return email; }
@@ -24,6 +24,7 @@ public enum ErrorCode {
 
     // Data / integrity
     DATA_EMAIL_EXISTS("data.email_exists", "Email already registered."),
+    DATA_PROJECT_NAME_EXISTS("data.project_name_exists", "Project name already exists."),
     DATA_INVALID("data.invalid", "Invalid data. Please check your input."),
 
     // Forbidden
@@ -34,6 +35,12 @@ public enum ErrorCode {
     TASK_NOT_FOUND("task.not_found", "Task not found."),
     PROJECT_NOT_FOUND("project.not_found", "Project not found."),
 
+    // Capacity
+    SERVICE_BUSY("service.busy", "Server is busy. Please try again in a moment."),
+
+    // Query budget (strict-queries profile only)
+    QUERY_BUDGET_EXCEEDED("query.budget_exceeded", "Request ran more database statements than its budget."),
+
     // Generic
     INTERNAL_ERROR("internal.error", "An unexpected error occurred. Please try again.");
 
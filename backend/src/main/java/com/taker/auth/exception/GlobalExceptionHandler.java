@@ -3,6 +3,7 @@ package com.taker.auth.exception;
 import com.taker.auth.dto.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -35,6 +36,10 @@ public class GlobalExceptionHandler {
             code = ErrorCode.AUTH_FORGOT_PASSWORD;
         } else if (p != null && p.contains("reset-password")) {
             code = ErrorCode.AUTH_RESET_PASSWORD;
+        } else if (p != null && p.startsWith("/api/projects")) {
+            code = ex.getMessage() != null && ex.getMessage().toLowerCase().contains("already exists")
+                    ? ErrorCode.DATA_PROJECT_NAME_EXISTS
+                    : ErrorCode.DATA_INVALID;
         } else {
             code = ErrorCode.AUTH_SIGNUP_FAILED;
         }
@@ -66,6 +71,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.failure(404, code, msg != null ? msg : code.getDefaultMessage(), path(request)));
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceBusy(ServiceBusyException ex, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.failure(503, ErrorCode.SERVICE_BUSY, ex.getMessage(), path(request)));
+    }
+
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleQueryBudget(QueryBudgetExceededException ex, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.failure(500, ErrorCode.QUERY_BUDGET_EXCEEDED, ex.getMessage(), path(request)));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidation(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -83,7 +101,13 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiResponse<Void>> handleDataIntegrity(DataIntegrityViolationException ex, HttpServletRequest request) {
-        boolean emailConflict = ex.getMessage() != null && ex.getMessage().toLowerCase().contains("unique");
+        String detail = ex.getMessage() != null ? ex.getMessage().toLowerCase() : "";
+        if (detail.contains("uk_projects_name")) {
+            // Two creates raced past ProjectService's name check.
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.failure(400,
+                    ErrorCode.DATA_PROJECT_NAME_EXISTS, ErrorCode.DATA_PROJECT_NAME_EXISTS.getDefaultMessage(), path(request)));
+        }
+        boolean emailConflict = detail.contains("unique");
         ErrorCode code = emailConflict ? ErrorCode.DATA_EMAIL_EXISTS : ErrorCode.DATA_INVALID;
         String msg = emailConflict ? "Email already registered." : "Invalid data. Please check your input.";
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
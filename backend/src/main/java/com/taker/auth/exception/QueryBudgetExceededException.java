@@ -0,0 +1,9 @@
+package com.taker.auth.exception;
+
+/** Thrown (strict mode only) when a request prepares more SQL statements than its endpoint's budget. */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int statements, int budget) {
+        super("Query budget exceeded: statement " + statements + " of a budget of " + budget);
+    }
+}
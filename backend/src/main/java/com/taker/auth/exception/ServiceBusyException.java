@@ -0,0 +1,16 @@
+package com.taker.auth.exception;
+
+/** Thrown when a bounded resource (e.g. the password hashing pool) is saturated; mapped to 503 with Retry-After. */
+public class ServiceBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceBusyException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
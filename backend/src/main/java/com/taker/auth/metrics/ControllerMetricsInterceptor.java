@@ -0,0 +1,126 @@
+package com.taker.auth.metrics;
+
+import com.taker.auth.exception.QueryBudgetExceededException;
+import com.taker.auth.metrics.QueryCountInspector.QueryStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Per controller method: latency ("api.requests", percentile histogram) and Hibernate statements per request
+ * ("api.requests.statements"), both tagged controller, method and status. Together with http.server.requests
+ * (whole request incl. filters) and hikaricp.connections.acquire (pool wait) this shows whether a p99 spike
+ * comes from the pool, the ORM or the handler. Only handlers in the application's controller package are measured.
+ * <p>
+ * Requests over their {@link QueryBudgets statement budget}, or repeating one statement shape at least the
+ * inspector's repeat threshold (likely N+1), are logged with a stack sample and counted in "api.requests.query.issues";
+ * in strict mode the over-budget statement throws {@link QueryBudgetExceededException} and the request fails.
+ * <p>
+ * Async handlers (SseEmitter, DeferredResult) are measured up to the point the handler returns: the request thread
+ * never sees afterCompletion for them, so the counting scope is closed in afterConcurrentHandlingStarted and the
+ * later async dispatch is not measured.
+ */
+public class ControllerMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String TIMER = "api.requests";
+    static final String STATEMENTS = "api.requests.statements";
+    static final String ISSUES = "api.requests.query.issues";
+    private static final Logger log = LoggerFactory.getLogger(ControllerMetricsInterceptor.class);
+    private static final String START_ATTR = ControllerMetricsInterceptor.class.getName() + ".start";
+    private static final String CONTROLLER_PACKAGE = "com.taker.auth.controller";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryCountInspector queryCounter;
+    private final QueryBudgets budgets;
+
+    public ControllerMetricsInterceptor(MeterRegistry meterRegistry, QueryCountInspector queryCounter, QueryBudgets budgets) {
+        this.meterRegistry = meterRegistry;
+        this.queryCounter = queryCounter;
+        this.budgets = budgets;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (measured(handler) && request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(START_ATTR, System.nanoTime());
+            queryCounter.start(budgets.isStrict() ? budgets.budgetFor(endpoint((HandlerMethod) handler)) : -1);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+        afterCompletion(request, response, handler, null);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTR) instanceof Long start) || !measured(handler)) {
+            return;
+        }
+        request.removeAttribute(START_ATTR);
+        HandlerMethod method = (HandlerMethod) handler;
+        QueryStats stats = queryCounter.stop();
+        Tags tags = Tags.of(
+                "controller", method.getBeanType().getSimpleName(),
+                "method", method.getMethod().getName(),
+                "status", String.valueOf(response.getStatus()));
+        Timer.builder(TIMER)
+                .description("Controller method latency (handler, service and database work)")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, java.util.concurrent.TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(STATEMENTS)
+                .description("SQL statements Hibernate prepared while handling the request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        checkQueries(endpoint(method), request, stats);
+    }
+
+    private void checkQueries(String endpoint, HttpServletRequest request, QueryStats stats) {
+        int budget = budgets.budgetFor(endpoint);
+        if (stats.statements() > budget) {
+            issue(endpoint, "budget");
+            log.warn("Query budget exceeded: {} {} ({}) ran {} statements, budget {}; most repeated ({}x): {}",
+                    request.getMethod(), request.getRequestURI(), endpoint, stats.statements(), budget,
+                    stats.topRepeats(), stats.topShape());
+        }
+        if (stats.topRepeats() >= queryCounter.getRepeatThreshold()) {
+            issue(endpoint, "repeated");
+            log.warn("Possible N+1: {} {} ({}) ran the same statement {} times: {}\n\tat {}",
+                    request.getMethod(), request.getRequestURI(), endpoint, stats.topRepeats(), stats.topShape(),
+                    String.join("\n\tat ", stats.sample()));
+        }
+    }
+
+    private void issue(String endpoint, String kind) {
+        Counter.builder(ISSUES)
+                .description("Requests over their statement budget or repeating one statement (likely N+1)")
+                .tags("endpoint", endpoint, "kind", kind)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String endpoint(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+    }
+
+    private static boolean measured(Object handler) {
+        return handler instanceof HandlerMethod m && m.getBeanType().getPackageName().equals(CONTROLLER_PACKAGE);
+    }
+}
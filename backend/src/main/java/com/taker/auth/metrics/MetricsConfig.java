@@ -0,0 +1,49 @@
+package com.taker.auth.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers the per-controller request metrics, the Hibernate statement counter they read and the per-endpoint
+ * statement budgets (app.query-budget.*; the strict-queries profile fails over-budget requests).
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryCountInspector queryCountInspector;
+    private final QueryBudgets queryBudgets;
+
+    public MetricsConfig(MeterRegistry meterRegistry,
+                         @Value("${app.query-budget.repeat-threshold:10}") int repeatThreshold,
+                         @Value("${app.query-budget.default:30}") int defaultBudget,
+                         @Value("${app.query-budget.endpoints:}") List<String> endpointBudgets,
+                         @Value("${app.query-budget.strict:false}") boolean strict) {
+        this.meterRegistry = meterRegistry;
+        this.queryCountInspector = new QueryCountInspector(repeatThreshold);
+        this.queryBudgets = new QueryBudgets(defaultBudget, endpointBudgets, strict);
+    }
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return queryCountInspector;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(QueryCountInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ControllerMetricsInterceptor(meterRegistry, queryCountInspector, queryBudgets));
+    }
+}
@@ -0,0 +1,38 @@
+package com.taker.auth.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statement budget per endpoint ("Controller.method", e.g. "TaskController.getTasks"), from
+ * app.query-budget.endpoints ("TaskController.getTasks=10,UserController.getAll=8"); other endpoints get the
+ * default. In strict mode a request that goes over its budget fails instead of only being logged.
+ */
+public class QueryBudgets {
+
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets = new HashMap<>();
+    private final boolean strict;
+
+    public QueryBudgets(int defaultBudget, List<String> endpoints, boolean strict) {
+        this.defaultBudget = defaultBudget;
+        this.strict = strict;
+        for (String entry : endpoints) {
+            if (entry == null || entry.isBlank()) continue;
+            int eq = entry.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected Controller.method=budget, got: " + entry);
+            }
+            budgets.put(entry.substring(0, eq).trim(), Integer.parseInt(entry.substring(eq + 1).trim()));
+        }
+    }
+
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+}
@@ -0,0 +1,116 @@
+package com.taker.auth.metrics;
+
+import com.taker.auth.exception.QueryBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start} and {@link #stop()}
+ * (one scope per request, see {@link ControllerMetricsInterceptor}) and tracks how often the same statement shape
+ * repeats, the usual N+1 signature. When a shape reaches the repeat threshold a stack sample of application frames
+ * is kept so the log points at the loop. Statements outside a started scope are not counted; JDBC batches count
+ * once; plain JdbcTemplate queries are not seen.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final String APP_PACKAGE = "com.taker.auth.";
+    private static final int SAMPLE_FRAMES = 8;
+
+    private final int repeatThreshold;
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    public QueryCountInspector(int repeatThreshold) {
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope s = scope.get();
+        if (s == null) return sql;
+        s.statements++;
+        String shape = shapeOf(sql);
+        int repeats = s.shapes.merge(shape, 1, Integer::sum);
+        if (repeats > s.topRepeats) {
+            s.topRepeats = repeats;
+            s.topShape = shape;
+        }
+        if (repeats == repeatThreshold && s.sample == null) {
+            s.sample = appFrames(new Throwable().getStackTrace());
+        }
+        if (s.failAbove >= 0 && s.statements > s.failAbove) {
+            throw new QueryBudgetExceededException(s.statements, s.failAbove);
+        }
+        return sql;
+    }
+
+    /** Starts counting on this thread without a hard limit. */
+    public void start() {
+        start(-1);
+    }
+
+    /** Starts counting on this thread; with {@code failAbove >= 0} the statement past that limit throws. */
+    public void start(int failAbove) {
+        scope.set(new Scope(failAbove));
+    }
+
+    /** Statements counted since {@link #start}, or 0 if not started on this thread. */
+    public int count() {
+        Scope s = scope.get();
+        return s != null ? s.statements : 0;
+    }
+
+    /** Ends the scope and returns what it saw (empty stats if none was started). */
+    public QueryStats stop() {
+        Scope s = scope.get();
+        scope.remove();
+        if (s == null) return new QueryStats(0, null, 0, List.of());
+        return new QueryStats(s.statements, s.topShape, s.topRepeats, s.sample != null ? s.sample : List.of());
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    /** Statement with literals, bind lists and whitespace collapsed, so "where id=?" for 100 ids is one shape. */
+    static String shapeOf(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = WHITESPACE.matcher(s.trim()).replaceAll(" ");
+        return IN_LIST.matcher(s).replaceAll("(?)").toLowerCase();
+    }
+
+    private static List<String> appFrames(StackTraceElement[] stack) {
+        return Arrays.stream(stack)
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE))
+                .filter(f -> !f.getClassName().startsWith(QueryCountInspector.class.getPackageName()))
+                .filter(f -> !f.getClassName().contains("$$"))
+                .limit(SAMPLE_FRAMES)
+                .map(StackTraceElement::toString)
+                .toList();
+    }
+
+    /** What one request's scope saw: total statements and its most repeated shape. */
+    public record QueryStats(int statements, String topShape, int topRepeats, List<String> sample) {}
+
+    private static final class Scope {
+        final int failAbove;
+        final Map<String, Integer> shapes = new HashMap<>();
+        int statements;
+        String topShape;
+        int topRepeats;
+        List<String> sample;
+
+        Scope(int failAbove) {
+            this.failAbove = failAbove;
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.taker.auth.repository;
 import com.taker.auth.entity.ProjectAssignment;
 import com.taker.auth.entity.ProjectRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectAssignmentRepository extends JpaRepository<ProjectAssignment, Long> {
@@ -13,4 +17,48 @@ public interface ProjectAssignmentRepository extends JpaRepository<ProjectAssign
     List<ProjectAssignment> findByProjectId(Long projectId);
 
     List<ProjectAssignment> findByUserIdAndProjectRole(Long userId, ProjectRole projectRole);
+
+    /** Rows of [projectId, userId, projectRole] for every assignment; used to build the in-memory membership index. */
+    @Query("select a.project.id, a.user.id, a.projectRole from ProjectAssignment a")
+    List<Object[]> findAllMembershipRows();
+
+    /** [assignmentCount, sum of change versions]: moves on every insert, update or delete of an assignment. */
+    @Query("select count(a), coalesce(sum(a.changeVersion), 0) from ProjectAssignment a")
+    List<Object[]> findMembershipVersion();
+
+    /** Rows of [userId, projectId, projectName] for the given users, oldest assignment first. */
+    @Query("select a.user.id, p.id, p.name from ProjectAssignment a join a.project p " +
+            "where a.user.id in :userIds order by a.id")
+    List<Object[]> findProjectRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /** Rows of [projectId, projectRole, userFullName] for the given projects and roles, oldest assignment first. */
+    @Query("select a.project.id, a.projectRole, u.fullName from ProjectAssignment a join a.user u " +
+            "where a.project.id in :projectIds and a.projectRole in :roles order by a.id")
+    List<Object[]> findMemberNamesByProjectIdsAndRoles(@Param("projectIds") Collection<Long> projectIds,
+                                                       @Param("roles") Collection<ProjectRole> roles);
+
+    /** Rows of [id, projectId, userId, projectRole] for assignments written at or after change version {@code since}. */
+    @Query("select a.id, a.project.id, a.user.id, a.projectRole from ProjectAssignment a " +
+            "where a.changeVersion >= :since order by a.id")
+    List<Object[]> findRowsChangedSince(@Param("since") long since);
+
+    /**
+     * Validator of a project's team: [projectVersion, assignmentCount, sum of assignment and member versions];
+     * no row if the project does not exist.
+     */
+    @Query("select p.changeVersion, (select count(a) from ProjectAssignment a where a.project.id = :projectId), " +
+            "(select coalesce(sum(a.changeVersion + u.changeVersion), 0) from ProjectAssignment a join a.user u " +
+            "where a.project.id = :projectId) " +
+            "from Project p where p.id = :projectId")
+    List<Object[]> findTeamVersion(@Param("projectId") Long projectId);
+
+    /** Removes all of a user's assignments in one statement (no entities loaded). */
+    @Modifying
+    @Query("delete from ProjectAssignment a where a.user.id = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
+
+    /** Removes all assignments of a project in one statement (no entities loaded). */
+    @Modifying
+    @Query("delete from ProjectAssignment a where a.project.id = :projectId")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
 }
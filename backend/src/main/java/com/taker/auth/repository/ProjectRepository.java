@@ -1,7 +1,56 @@
 package com.taker.auth.repository;
 
 import com.taker.auth.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    /** Names are unique (uk_projects_name). */
+    Optional<Project> findByName(String name);
+
+    /** Keyset page of projects (id greater than {@code after}). */
+    @Query("select p from Project p where (:after is null or p.id > :after) order by p.id")
+    List<Project> findPage(@Param("after") Long after, Pageable page);
+
+    /**
+     * Projects written at or after change version {@code since}, plus projects with a task written since then
+     * (their progress moved).
+     */
+    @Query("select p from Project p where p.changeVersion >= :since " +
+            "or p.id in (select t.project.id from Task t where t.changeVersion >= :since) order by p.id")
+    List<Project> findChangedSince(@Param("since") long since);
+
+    /**
+     * Validator of the project list: one row of [projectCount, projectVersionSum, counterCount, counterVersionSum].
+     * The task counters are included because progress is derived from them.
+     */
+    @Query("select count(p), coalesce(sum(p.changeVersion), 0), " +
+            "(select count(c) from TaskStatusCount c), (select coalesce(sum(c.changeVersion), 0) from TaskStatusCount c) " +
+            "from Project p")
+    List<Object[]> findListVersion();
+
+    /** Ids of the keyset page {@link #findPage} returns, as a subquery. */
+    String PAGE_IDS = "(select q.id from Project q where (:after is null or q.id > :after) order by q.id limit :limit)";
+
+    /**
+     * Validator of one keyset page, in the shape of {@link #findListVersion}: the page's projects and their counter
+     * rows only, read through the primary key and idx_task_status_counts_project.
+     */
+    @Query("select count(p), coalesce(sum(p.changeVersion), 0), " +
+            "(select count(c) from TaskStatusCount c where c.projectId in " + PAGE_IDS + "), " +
+            "(select coalesce(sum(c.changeVersion), 0) from TaskStatusCount c where c.projectId in " + PAGE_IDS + ") " +
+            "from Project p where p.id in " + PAGE_IDS)
+    List<Object[]> findPageVersion(@Param("after") Long after, @Param("limit") int limit);
+
+    /** Deletes the project row without loading it or cascading to its tasks and assignments. */
+    @Modifying
+    @Query("delete from Project p where p.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
 }
@@ -0,0 +1,61 @@
+package com.taker.auth.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reads and housekeeping for GET /api/sync over the tables from V6__change_versions_and_tombstones: the snapshot
+ * watermark, delete tombstones and the retention purge. Postgres only (txid functions, data-modifying CTE).
+ */
+@Repository
+public class SyncJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** A deleted row: entity is task, project, assignment or user; project/user ids are those it referenced. */
+    public record Tombstone(String entity, long entityId, Long projectId, Long userId, long version) {}
+
+    /**
+     * Oldest transaction id still running as of the current snapshot. Every write by an older transaction is
+     * committed and visible, so re-reading from this version (inclusive) never misses a later commit.
+     */
+    public long snapshotWatermark() {
+        Long xmin = jdbcTemplate.queryForObject("select txid_snapshot_xmin(txid_current_snapshot())", Long.class);
+        return xmin != null ? xmin : 0L;
+    }
+
+    /** Highest tombstone version removed by {@link #purgeDeletedBefore(Instant)}; 0 if none were purged yet. */
+    public long purgedThrough() {
+        List<Long> rows = jdbcTemplate.queryForList("select purged_through from sync_state where id = 1", Long.class);
+        return rows.isEmpty() || rows.get(0) == null ? 0L : rows.get(0);
+    }
+
+    /** Tombstones at or after {@code since}, oldest first, at most {@code limit}. */
+    public List<Tombstone> findTombstonesSince(long since, int limit) {
+        return jdbcTemplate.query(
+                "select entity, entity_id, project_id, user_id, change_version from sync_tombstones " +
+                        "where change_version >= ? order by id limit ?",
+                (rs, i) -> new Tombstone(rs.getString(1), rs.getLong(2), rs.getObject(3, Long.class),
+                        rs.getObject(4, Long.class), rs.getLong(5)),
+                since, limit);
+    }
+
+    /** Deletes tombstones written before {@code cutoff} and raises the purge watermark in the same statement. */
+    public int purgeDeletedBefore(Instant cutoff) {
+        Integer removed = jdbcTemplate.queryForObject(
+                "with gone as (delete from sync_tombstones where deleted_at < ? returning change_version), " +
+                        "mark as (update sync_state set purged_through = greatest(purged_through, " +
+                        "(select coalesce(max(change_version), 0) from gone)) where id = 1) " +
+                        "select count(*)::int from gone",
+                Integer.class, Timestamp.from(cutoff));
+        return removed != null ? removed : 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.taker.auth.repository;
+
+import com.taker.auth.entity.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based writes for tasks that bypass per-entity saves: ids are taken from the tasks.id sequence in one
+ * round trip, then rows go out as JDBC batches ({@value #BATCH_SIZE} statements per batch).
+ * Used by the bulk task endpoints and the user/project cascade; single-task endpoints keep using {@link TaskRepository}.
+ */
+@Repository
+public class TaskJdbcRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Row to insert; {@code id} comes from {@link #allocateIds(int)}. */
+    public record NewTaskRow(long id, String title, String description, TaskStatus status, LocalDate dueDate,
+                             Long projectId, Long assignedToId) {}
+
+    /**
+     * Reserves {@code count} task ids in a single statement from the id column's own sequence,
+     * so they never collide with ids handed out to single inserts.
+     */
+    public List<Long> allocateIds(int count) {
+        if (count <= 0) return List.of();
+        return jdbcTemplate.queryForList(
+                "select nextval(pg_get_serial_sequence('tasks', 'id')) from generate_series(1, ?)", Long.class, count);
+    }
+
+    public void insertAll(List<NewTaskRow> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "insert into tasks (id, title, description, status, due_date, project_id, assigned_to_id) values (?, ?, ?, ?, ?, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setString(2, row.title());
+                    ps.setString(3, row.description());
+                    ps.setShort(4, row.status().getCode());
+                    if (row.dueDate() != null) ps.setDate(5, Date.valueOf(row.dueDate()));
+                    else ps.setNull(5, Types.DATE);
+                    if (row.projectId() != null) ps.setLong(6, row.projectId());
+                    else ps.setNull(6, Types.BIGINT);
+                    if (row.assignedToId() != null) ps.setLong(7, row.assignedToId());
+                    else ps.setNull(7, Types.BIGINT);
+                });
+    }
+
+    /** Sets status per task id in JDBC batches. */
+    public void updateStatuses(Map<Long, TaskStatus> statusById) {
+        if (statusById.isEmpty()) return;
+        jdbcTemplate.batchUpdate("update tasks set status = ? where id = ?",
+                List.copyOf(statusById.entrySet()), BATCH_SIZE, (ps, e) -> {
+                    ps.setShort(1, e.getValue().getCode());
+                    ps.setLong(2, e.getKey());
+                });
+    }
+
+    /**
+     * Deletes at most {@code limit} tasks assigned to the user and returns how many went. Call repeatedly, one
+     * transaction per call, so row locks are only held for one chunk at a time.
+     */
+    public int deleteChunkByAssignee(long userId, int limit) {
+        return jdbcTemplate.update(
+                "delete from tasks where id in (select id from tasks where assigned_to_id = ? limit ?)", userId, limit);
+    }
+
+    /** Like {@link #deleteChunkByAssignee(long, int)}, for the tasks of a project. */
+    public int deleteChunkByProject(long projectId, int limit) {
+        return jdbcTemplate.update(
+                "delete from tasks where id in (select id from tasks where project_id = ? limit ?)", projectId, limit);
+    }
+
+    /** Moves every task of one assignee to another in a single statement; returns the number of tasks moved. */
+    public int reassign(long fromUserId, long toUserId) {
+        return jdbcTemplate.update("update tasks set assigned_to_id = ? where assigned_to_id = ?", toUserId, fromUserId);
+    }
+}
@@ -1,15 +1,111 @@
 package com.taker.auth.repository;
 
+import com.taker.auth.dto.TaskDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
 import com.taker.auth.entity.Task;
+import com.taker.auth.entity.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    /**
+     * Tasks visible to a user (assignee a, project p): everything (scopeAll), the user's own tasks (includeOwn),
+     * and tasks of anyone with a role in assigneeRoles who shares a project where the user holds viaRole.
+     * Shared by the list and the dashboard rollups so both see the same tasks.
+     */
+    String VISIBLE = "from Task t join t.assignedTo a left join t.project p " +
+            "where (:scopeAll = true " +
+            "  or (:includeOwn = true and a.id = :userId) " +
+            "  or (:viaRole is not null and a.role in :assigneeRoles and exists (" +
+            "    select mine.id from ProjectAssignment mine, ProjectAssignment theirs " +
+            "    where mine.user.id = :userId and mine.projectRole = :viaRole " +
+            "    and theirs.project.id = mine.project.id and theirs.user.id = a.id))) ";
+
     List<Task> findByAssignedToId(Long userId);
 
     List<Task> findByAssignedToIdIn(List<Long> userIds);
 
-    long countByAssignedToIdAndStatus(Long assignedToId, String status);
+    long countByAssignedToIdAndStatus(Long assignedToId, TaskStatus status);
+
+    /** Tasks by id with assignee and project fetched in the same statement. */
+    @Query("select t from Task t left join fetch t.assignedTo left join fetch t.project where t.id in :ids")
+    List<Task> findAllWithAssigneeAndProjectByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Tasks visible to a user, projected to TaskDto in one statement, in id order for keyset paging.
+     * Visibility: everything (scopeAll), the user's own tasks (includeOwn), and tasks of anyone with a role in
+     * assigneeRoles who shares a project where the user holds viaRole. The roster join runs in SQL, so no id list is sent.
+     * Filters: after (last id of the previous page), status, project, assignee, due range.
+     */
+    @Query("select new com.taker.auth.dto.TaskDto(t.id, t.title, t.status, t.dueDate, t.description, a.id, a.fullName, p.id, p.name) " +
+            VISIBLE +
+            "and (:after is null or t.id > :after) " +
+            "and (:status is null or t.status = :status) " +
+            "and (:projectId is null or p.id = :projectId) " +
+            "and (:assigneeId is null or a.id = :assigneeId) " +
+            "and (:dueFrom is null or t.dueDate >= :dueFrom) " +
+            "and (:dueTo is null or t.dueDate <= :dueTo) " +
+            "order by t.id")
+    List<TaskDto> findVisibleDtos(@Param("userId") Long userId,
+                                  @Param("scopeAll") boolean scopeAll,
+                                  @Param("includeOwn") boolean includeOwn,
+                                  @Param("viaRole") ProjectRole viaRole,
+                                  @Param("assigneeRoles") Collection<Role> assigneeRoles,
+                                  @Param("after") Long after,
+                                  @Param("status") TaskStatus status,
+                                  @Param("projectId") Long projectId,
+                                  @Param("assigneeId") Long assigneeId,
+                                  @Param("dueFrom") LocalDate dueFrom,
+                                  @Param("dueTo") LocalDate dueTo,
+                                  Pageable page);
+
+    /** Visible tasks (see {@link #VISIBLE}) written at or after change version {@code since}, in id order. */
+    @Query("select new com.taker.auth.dto.TaskDto(t.id, t.title, t.status, t.dueDate, t.description, a.id, a.fullName, p.id, p.name) " +
+            VISIBLE + "and t.changeVersion >= :since order by t.id")
+    List<TaskDto> findVisibleDtosChangedSince(@Param("userId") Long userId,
+                                              @Param("scopeAll") boolean scopeAll,
+                                              @Param("includeOwn") boolean includeOwn,
+                                              @Param("viaRole") ProjectRole viaRole,
+                                              @Param("assigneeRoles") Collection<Role> assigneeRoles,
+                                              @Param("since") long since,
+                                              Pageable page);
+
+    /**
+     * Rows of [projectId, projectName, status, count, overdueCount] over the visible tasks (see {@link #VISIBLE});
+     * projectId is null for tasks without a project. Overdue: due before {@code today} and not {@code done}.
+     */
+    @Query("select p.id, p.name, t.status, count(t), " +
+            "sum(case when t.dueDate < :today and t.status <> :done then 1 else 0 end) " +
+            VISIBLE + "group by p.id, p.name, t.status")
+    List<Object[]> countVisibleByProjectAndStatus(@Param("userId") Long userId,
+                                                  @Param("scopeAll") boolean scopeAll,
+                                                  @Param("includeOwn") boolean includeOwn,
+                                                  @Param("viaRole") ProjectRole viaRole,
+                                                  @Param("assigneeRoles") Collection<Role> assigneeRoles,
+                                                  @Param("today") LocalDate today,
+                                                  @Param("done") TaskStatus done);
+
+    /** Rows of [userId, fullName, count] of visible tasks not in status {@code done}, busiest assignee first. */
+    @Query("select a.id, a.fullName, count(t) " + VISIBLE + "and t.status <> :done " +
+            "group by a.id, a.fullName order by count(t) desc, a.id")
+    List<Object[]> countVisibleOpenByAssignee(@Param("userId") Long userId,
+                                              @Param("scopeAll") boolean scopeAll,
+                                              @Param("includeOwn") boolean includeOwn,
+                                              @Param("viaRole") ProjectRole viaRole,
+                                              @Param("assigneeRoles") Collection<Role> assigneeRoles,
+                                              @Param("done") TaskStatus done,
+                                              Pageable page);
+
+    /** Rows of [projectId, count] of overdue tasks (due before {@code today}, not {@code done}) across all assignees. */
+    @Query("select p.id, count(t) from Task t join t.assignedTo a left join t.project p " +
+            "where t.dueDate < :today and t.status <> :done group by p.id")
+    List<Object[]> countOverdueByProject(@Param("today") LocalDate today, @Param("done") TaskStatus done);
 }
@@ -0,0 +1,72 @@
+package com.taker.auth.repository;
+
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatusCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/** Reads the trigger-maintained task counters; status arguments are {@code TaskStatus.getCode()}. */
+public interface TaskStatusCountRepository extends JpaRepository<TaskStatusCount, TaskStatusCount.Key> {
+
+    /** Tasks assigned to the user with the given status, across all projects. */
+    @Query("select coalesce(sum(c.taskCount), 0) from TaskStatusCount c where c.userId = :userId and c.status = :status")
+    long sumByUserIdAndStatus(@Param("userId") Long userId, @Param("status") short status);
+
+    /** Rows of [userId, count] for the given status, one row per user that has any. */
+    @Query("select c.userId, sum(c.taskCount) from TaskStatusCount c " +
+            "where c.userId in :userIds and c.status = :status group by c.userId having sum(c.taskCount) > 0")
+    List<Object[]> sumByUserIdInAndStatus(@Param("userIds") Collection<Long> userIds, @Param("status") short status);
+
+    /** Rows of [projectId, status, count] for the given projects, one row per status present. */
+    @Query("select c.projectId, c.status, sum(c.taskCount) from TaskStatusCount c " +
+            "where c.projectId in :projectIds group by c.projectId, c.status")
+    List<Object[]> sumByProjectIdInGroupByStatus(@Param("projectIds") Collection<Long> projectIds);
+
+    /** Rows of [projectId, projectName, status, count] over all assigned tasks; projectId 0 (name null) = no project. */
+    @Query("select c.projectId, p.name, c.status, sum(c.taskCount) from TaskStatusCount c " +
+            "left join Project p on p.id = c.projectId " +
+            "where c.userId <> 0 group by c.projectId, p.name, c.status having sum(c.taskCount) > 0")
+    List<Object[]> sumAssignedByProjectAndStatus();
+
+    /**
+     * Validator of a task list: [counterCount, counter, assignee and project version sums] over the counter rows
+     * (buckets) that hold the tasks {@code TaskRepository.VISIBLE} selects with the same parameters. A bucket's
+     * version moves on every write to one of its tasks, so this changes whenever a listed task, its assignee or its
+     * project does. Due-date filters and paging are not applied (the validator covers a superset).
+     * {@code withUnassigned} adds tasks without assignee (the unauthenticated full list).
+     */
+    @Query("select count(c), coalesce(sum(c.changeVersion), 0), coalesce(sum(a.changeVersion), 0), " +
+            "coalesce(sum(p.changeVersion), 0) " +
+            "from TaskStatusCount c left join User a on a.id = c.userId left join Project p on p.id = c.projectId " +
+            "where (a.id is not null or :withUnassigned = true) " +
+            "and (:scopeAll = true " +
+            "  or (:includeOwn = true and a.id = :userId) " +
+            "  or (:viaRole is not null and a.role in :assigneeRoles and exists (" +
+            "    select mine.id from ProjectAssignment mine, ProjectAssignment theirs " +
+            "    where mine.user.id = :userId and mine.projectRole = :viaRole " +
+            "    and theirs.project.id = mine.project.id and theirs.user.id = a.id))) " +
+            "and (:status is null or c.status = :status) " +
+            "and (:projectId is null or c.projectId = :projectId) " +
+            "and (:assigneeId is null or c.userId = :assigneeId)")
+    List<Object[]> findVisibleVersion(@Param("userId") Long userId,
+                                      @Param("scopeAll") boolean scopeAll,
+                                      @Param("includeOwn") boolean includeOwn,
+                                      @Param("viaRole") ProjectRole viaRole,
+                                      @Param("assigneeRoles") Collection<Role> assigneeRoles,
+                                      @Param("withUnassigned") boolean withUnassigned,
+                                      @Param("status") Short status,
+                                      @Param("projectId") Long projectId,
+                                      @Param("assigneeId") Long assigneeId);
+
+    /** Rows of [userId, fullName, count] of tasks not in {@code status}, busiest user first. */
+    @Query("select u.id, u.fullName, sum(c.taskCount) from TaskStatusCount c join User u on u.id = c.userId " +
+            "where c.status <> :status group by u.id, u.fullName having sum(c.taskCount) > 0 " +
+            "order by sum(c.taskCount) desc, u.id")
+    List<Object[]> sumByUserExcludingStatus(@Param("status") short status, Pageable page);
+}
@@ -2,8 +2,14 @@ package com.taker.auth.repository;
 
 import com.taker.auth.entity.Role;
 import com.taker.auth.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,5 +20,63 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    /** Every login ID in use (for the login ID allocator). */
+    @Query("select u.loginId from User u where u.loginId is not null")
+    List<Integer> findAllLoginIds();
+
     Optional<User> findByEmailAndIdCardNumber(String email, String idCardNumber);
+
+    /** All users with their position fetched in the same statement (no lazy load per user). */
+    @Query("select u from User u left join fetch u.position order by u.id")
+    List<User> findAllWithPosition();
+
+    /** Keyset page of users (id greater than {@code after}), position fetched. */
+    @Query("select u from User u left join fetch u.position where (:after is null or u.id > :after) order by u.id")
+    List<User> findPageWithPosition(@Param("after") Long after, Pageable page);
+
+    /** Keyset page of users whose role is not {@code role}, position fetched. */
+    @Query("select u from User u left join fetch u.position " +
+            "where u.role <> :role and (:after is null or u.id > :after) order by u.id")
+    List<User> findPageWithPositionByRoleNot(@Param("role") Role role, @Param("after") Long after, Pageable page);
+
+    @Query("select u from User u left join fetch u.position where u.id in :ids order by u.id")
+    List<User> findAllWithPositionByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Rows of [role, count]. */
+    @Query("select u.role, count(u) from User u group by u.role")
+    List<Object[]> countByRole();
+
+    /** Rows of [role, count] over the given users. */
+    @Query("select u.role, count(u) from User u where u.id in :ids group by u.role")
+    List<Object[]> countByRoleAndIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of users written at or after change version {@code since}, plus assignees of tasks and members of
+     * assignments written since then (their summary's counts and projects moved).
+     */
+    @Query("select u.id from User u where u.changeVersion >= :since " +
+            "or u.id in (select t.assignedTo.id from Task t where t.changeVersion >= :since) " +
+            "or u.id in (select a.user.id from ProjectAssignment a where a.changeVersion >= :since)")
+    List<Long> findIdsChangedSince(@Param("since") long since);
+
+    /**
+     * Validator of a user's summary: [userVersion, count and version sum of the assignments (with their users and
+     * projects) on the user's projects, count and version sum of the user's task counters]; no row if the user does
+     * not exist. Covers the current project, its manager and team leader names and the completed count.
+     */
+    @Query("select u.changeVersion, " +
+            "(select count(o) from ProjectAssignment mine join ProjectAssignment o on o.project.id = mine.project.id " +
+            "where mine.user.id = :userId), " +
+            "(select coalesce(sum(o.changeVersion + ou.changeVersion + op.changeVersion), 0) from ProjectAssignment mine " +
+            "join ProjectAssignment o on o.project.id = mine.project.id join o.user ou join o.project op " +
+            "where mine.user.id = :userId), " +
+            "(select count(c) from TaskStatusCount c where c.userId = :userId), " +
+            "(select coalesce(sum(c.changeVersion), 0) from TaskStatusCount c where c.userId = :userId) " +
+            "from User u where u.id = :userId")
+    List<Object[]> findSummaryVersion(@Param("userId") Long userId);
+
+    /** Deletes the user row without loading it; tasks and assignments must already be gone. */
+    @Modifying
+    @Query("delete from User u where u.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
 }
@@ -0,0 +1,118 @@
+package com.taker.auth.security;
+
+import com.taker.auth.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt hashing and verification on a small, CPU-sized pool with a bounded queue instead of on the
+ * request thread pool, so a login/signup storm cannot take all CPU from cheap endpoints. When the queue is full
+ * (or a caller waits longer than the configured timeout) a {@link ServiceBusyException} is thrown, which the API
+ * answers with 503 + Retry-After. Exposes auth.hash.* metrics: queue depth, active workers, rejections, and
+ * hash/wait latency per operation.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMs,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMs = waitTimeoutMs;
+        int poolSize = Math.max(1, threads);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("auth.hash").tag("op", "encode")
+                .description("Time spent hashing passwords").publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.hash").tag("op", "matches")
+                .description("Time spent verifying passwords").publishPercentileHistogram().register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.hash.queue.wait")
+                .description("Time hashing work waited for a free worker").register(meterRegistry);
+        this.rejected = Counter.builder("auth.hash.rejected")
+                .description("Hashing requests rejected because the pool was saturated").register(meterRegistry);
+        Gauge.builder("auth.hash.queue", executor, e -> e.getQueue().size())
+                .description("Hashing requests waiting for a worker").register(meterRegistry);
+        Gauge.builder("auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing workers currently busy").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> work, Timer timer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ServiceBusyException busy() {
+        return new ServiceBusyException("Server is busy. Please try again in a moment.", RETRY_AFTER_SECONDS);
+    }
+}
@@ -20,10 +20,10 @@ import java.util.stream.Collectors;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtAuthFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    public JwtAuthFilter(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -48,8 +48,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            String email = jwtService.extractEmail(token);
-            String role = jwtService.extractRole(token);
+            VerifiedToken verified = tokenCache.verify(token);
+            String email = verified.getEmail();
+            String role = verified.getRole();
 
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 List<SimpleGrantedAuthority> authorities = List.of(
@@ -1,6 +1,7 @@
 package com.taker.auth.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,19 +25,37 @@ public class JwtService {
     @Value("${jwt.reset-expiration-ms:900000}")
     private long resetExpirationMs;
 
+    /** Derived once from the secret; the parser is immutable and thread-safe, so both are shared by all requests. */
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     /**
      * Builds an HMAC-SHA256 key with at least 256 bits as required by RFC 7518.
      * Derives 32 bytes from the configured secret via SHA-256 so any secret length is safe.
      */
     private SecretKey getSigningKey() {
-        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
-        byte[] keyBytes;
-        try {
-            keyBytes = MessageDigest.getInstance("SHA-256").digest(secretBytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
+        SecretKey key = signingKey;
+        if (key == null) {
+            byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+            byte[] keyBytes;
+            try {
+                keyBytes = MessageDigest.getInstance("SHA-256").digest(secretBytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser p = parser;
+        if (p == null) {
+            p = Jwts.parser().verifyWith(getSigningKey()).build();
+            parser = p;
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        return p;
     }
 
     public String generateToken(String email, String role) {
@@ -49,12 +68,18 @@ public class JwtService {
                 .compact();
     }
 
+    /** Verifies the signature and expiry and returns the claims; throws if the token is invalid. */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getParser().parseSignedClaims(token).getPayload();
+    }
+
+    /** Verifies the token once and returns email, role and expiry together (used by the auth filter). */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractClaims(token);
+        Object role = claims.get("role");
+        Date exp = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(), role != null ? role.toString() : null,
+                exp != null ? exp.getTime() : Long.MAX_VALUE);
     }
 
     public String extractEmail(String token) {
@@ -86,14 +111,11 @@ public class JwtService {
 
     public boolean isValid(String token, String email) {
         try {
-            String subject = extractClaims(token).getSubject();
-            return subject.equals(email) && !isExpired(token);
+            // The parser rejects expired tokens, so one parse covers both checks.
+            Claims claims = extractClaims(token);
+            return claims.getSubject().equals(email) && !claims.getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
         }
     }
-
-    private boolean isExpired(String token) {
-        return extractClaims(token).getExpiration().before(new Date());
-    }
 }
@@ -1,5 +1,7 @@
 package com.taker.auth.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -52,9 +54,16 @@ public class SecurityConfig {
         return username -> { throw new UsernameNotFoundException("JWT-only API; use /api/auth/login"); };
     }
 
-    /** BCrypt: used for login, signup, and reset password (new password is stored hashed). */
+    /**
+     * BCrypt: used for login, signup, and reset password (new password is stored hashed).
+     * Runs on its own bounded pool (auth.hash.*) so hashing bursts answer 503 instead of starving other requests.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.hash.threads:0}") int threads,
+                                           @Value("${auth.hash.queue-capacity:64}") int queueCapacity,
+                                           @Value("${auth.hash.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, waitTimeoutMs, meterRegistry);
     }
 }
@@ -0,0 +1,23 @@
+package com.taker.auth.security;
+
+/** Result of verifying an access token: who it is for, their role claim, and when it expires (epoch ms). */
+public class VerifiedToken {
+
+    private final String email;
+    private final String role;
+    private final long expiresAtMs;
+
+    public VerifiedToken(String email, String role, long expiresAtMs) {
+        this.email = email;
+        this.role = role;
+        this.expiresAtMs = expiresAtMs;
+    }
+
+    public String getEmail() { return email; }
+    public String getRole() { return role; }
+    public long getExpiresAtMs() { return expiresAtMs; }
+
+    public boolean isExpired(long nowMs) {
+        return nowMs >= expiresAtMs;
+    }
+}
@@ -0,0 +1,92 @@
+package com.taker.auth.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of already-verified access tokens, so repeat requests with the same token skip
+ * signature verification and JSON parsing. Keyed by a SHA-256 digest of the token (raw tokens are not kept);
+ * an entry is never served after the token's own expiry. Hits/misses are exposed as jwt.cache.* metrics.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final boolean enabled;
+    private final int maxSize;
+    private final Map<String, VerifiedToken> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(JwtService jwtService, MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtService = jwtService;
+        this.enabled = enabled;
+        this.maxSize = Math.max(1, maxSize);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("jwt.cache.hits").description("Access tokens served from the verified-token cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.cache.misses").description("Access tokens that needed full verification")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", this, VerifiedTokenCache::size).description("Entries in the verified-token cache")
+                .register(meterRegistry);
+    }
+
+    /** Returns the verified token, from cache when possible; throws like {@link JwtService#verify} when invalid. */
+    public VerifiedToken verify(String token) {
+        if (!enabled) {
+            return jwtService.verify(token);
+        }
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && cached.isExpired(now)) {
+                entries.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        VerifiedToken verified = jwtService.verify(token);
+        synchronized (entries) {
+            entries.put(key, verified);
+        }
+        return verified;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -9,9 +9,12 @@ import com.taker.auth.exception.UnauthorizedException;
 import com.taker.auth.repository.PositionRepository;
 import com.taker.auth.repository.UserRepository;
 import com.taker.auth.security.JwtService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class AuthService {
@@ -20,15 +23,21 @@ public class AuthService {
     private final PositionRepository positionRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final LoginIdAllocator loginIdAllocator;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(UserRepository userRepository,
                        PositionRepository positionRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       JwtService jwtService,
+                       LoginIdAllocator loginIdAllocator,
+                       TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.positionRepository = positionRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.loginIdAllocator = loginIdAllocator;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -80,8 +89,9 @@ public class AuthService {
 
     /**
      * Sign up: validate input, ensure email not taken, create user (plain password), save, return user info.
+     * The insert runs in its own transaction and is retried once with a new login ID when another instance
+     * handed out the same one (uk_users_login_id); an ID whose insert rolled back goes back to the allocator.
      */
-    @Transactional
     public AuthResponse signUp(SignUpRequest req) {
         if (req == null) {
             throw new AuthException("Request body is required");
@@ -111,23 +121,18 @@ public class AuthService {
         String storedPassword = passwordEncoder.encode(password);
         String idCard = req.getIdCardNumber() != null && !req.getIdCardNumber().isBlank()
                 ? req.getIdCardNumber().trim() : null;
-        User user = new User(fullName, email, idCard, storedPassword, role);
-        user.setLoginId(generateUniqueLoginId());
-
-        if (req.getPosition() != null && !req.getPosition().isBlank()) {
+        User user;
+        try {
+            user = insertUser(fullName, email, idCard, storedPassword, role, req.getPosition());
+        } catch (DataIntegrityViolationException e) {
+            if (!isLoginIdConflict(e)) throw signUpFailed(e);
             try {
-                positionRepository.findByName(req.getPosition().trim()).ifPresent(user::setPosition);
-            } catch (Exception ignored) {
-                // position optional
+                user = insertUser(fullName, email, idCard, storedPassword, role, req.getPosition());
+            } catch (RuntimeException retry) {
+                throw isLoginIdConflict(retry) ? new AuthException("Sign up failed. Try again.", retry) : signUpFailed(retry);
             }
-        }
-        try {
-            user = userRepository.save(user);
-        } catch (Exception e) {
-            String msg = e.getMessage() != null && (e.getMessage().toLowerCase().contains("duplicate") || e.getMessage().toLowerCase().contains("unique"))
-                    ? "Email already registered"
-                    : (e.getMessage() != null && e.getMessage().length() <= 200 ? e.getMessage() : "Sign up failed. Try again.");
-            throw new AuthException(msg, e);
+        } catch (RuntimeException e) {
+            throw signUpFailed(e);
         }
 
         Role savedRole = user.getRole() != null ? user.getRole() : role;
@@ -137,16 +142,38 @@ public class AuthService {
         return new AuthResponse(user.getId(), user.getLoginId(), token, roleName, user.getEmail(), user.getFullName(), positionName);
     }
 
-    /** Generates a unique 5-digit login ID (10000–99999). */
-    private int generateUniqueLoginId() {
-        java.util.Random r = new java.util.Random();
-        for (int i = 0; i < 100; i++) {
-            int candidate = 10000 + r.nextInt(90000);
-            if (userRepository.findByLoginId(candidate).isEmpty()) {
-                return candidate;
+    private User insertUser(String fullName, String email, String idCard, String storedPassword, Role role,
+                            String position) {
+        return transactionTemplate.execute(status -> {
+            User user = new User(fullName, email, idCard, storedPassword, role);
+            user.setLoginId(loginIdAllocator.next());
+            if (position != null && !position.isBlank()) {
+                try {
+                    positionRepository.findByName(position.trim()).ifPresent(user::setPosition);
+                } catch (Exception ignored) {
+                    // position optional
+                }
+            }
+            return userRepository.save(user);
+        });
+    }
+
+    private static boolean isLoginIdConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException c && c.getConstraintName() != null
+                    && c.getConstraintName().toLowerCase().contains("uk_users_login_id")) {
+                return true;
             }
         }
-        throw new AuthException("Could not generate unique login ID. Try again.");
+        return false;
+    }
+
+    private static AuthException signUpFailed(RuntimeException e) {
+        if (e instanceof AuthException auth) return auth;
+        String msg = e.getMessage() != null && (e.getMessage().toLowerCase().contains("duplicate") || e.getMessage().toLowerCase().contains("unique"))
+                ? "Email already registered"
+                : (e.getMessage() != null && e.getMessage().length() <= 200 ? e.getMessage() : "Sign up failed. Try again.");
+        return new AuthException(msg, e);
     }
 
     /** Maps UI role names (Admin, Manager, Team Leader, Team Member) to Role enum. */
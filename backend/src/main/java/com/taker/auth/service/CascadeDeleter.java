@@ -0,0 +1,100 @@
+package com.taker.auth.service;
+
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskJdbcRepository;
+import com.taker.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Deletes a user or a project with set-based statements instead of loading and removing each child entity.
+ * Tasks go in chunks of {@code app.bulk-delete.chunk-size}, each chunk in its own short transaction so row locks
+ * are held for one chunk at a time. The final transaction sweeps tasks created meanwhile, then removes the
+ * assignments and the user/project row. Callers must not hold a transaction of their own.
+ */
+@Component
+public class CascadeDeleter {
+
+    private static final Logger log = LoggerFactory.getLogger(CascadeDeleter.class);
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionOperations transactions;
+    private final int chunkSize;
+
+    public CascadeDeleter(TaskJdbcRepository taskJdbcRepository, ProjectAssignmentRepository assignmentRepository,
+                          UserRepository userRepository, ProjectRepository projectRepository,
+                          TransactionOperations transactions,
+                          @Value("${app.bulk-delete.chunk-size:5000}") int chunkSize) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.transactions = transactions;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Removes the user, their assignments and their tasks. With {@code reassignTo} the tasks are moved to that user
+     * in a single UPDATE instead of being deleted. Returns the number of tasks deleted or moved.
+     */
+    public long deleteUser(long userId, Long reassignTo) {
+        long start = System.nanoTime();
+        long tasks = reassignTo == null ? deleteInChunks(limit -> taskJdbcRepository.deleteChunkByAssignee(userId, limit)) : 0;
+        tasks += transactions.execute(status -> {
+            long last = reassignTo != null
+                    ? taskJdbcRepository.reassign(userId, reassignTo)
+                    : sweep(limit -> taskJdbcRepository.deleteChunkByAssignee(userId, limit));
+            assignmentRepository.bulkDeleteByUserId(userId);
+            userRepository.bulkDeleteById(userId);
+            return last;
+        });
+        log.info("Deleted user {}: {} tasks {} in {} ms", userId, tasks,
+                reassignTo != null ? "moved to user " + reassignTo : "deleted", (System.nanoTime() - start) / 1_000_000);
+        return tasks;
+    }
+
+    /** Removes the project, its assignments and its tasks. Returns the number of tasks deleted. */
+    public long deleteProject(long projectId) {
+        long start = System.nanoTime();
+        long tasks = deleteInChunks(limit -> taskJdbcRepository.deleteChunkByProject(projectId, limit));
+        tasks += transactions.execute(status -> {
+            long last = sweep(limit -> taskJdbcRepository.deleteChunkByProject(projectId, limit));
+            assignmentRepository.bulkDeleteByProjectId(projectId);
+            projectRepository.bulkDeleteById(projectId);
+            return last;
+        });
+        log.info("Deleted project {}: {} tasks in {} ms", projectId, tasks, (System.nanoTime() - start) / 1_000_000);
+        return tasks;
+    }
+
+    /** Runs the chunk delete, one transaction per chunk, until a chunk comes back short. */
+    private long deleteInChunks(IntUnaryOperator chunk) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactions.execute(status -> chunk.applyAsInt(chunkSize));
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    /** Same loop inside the caller's transaction; normally finds nothing left. */
+    private long sweep(IntUnaryOperator chunk) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = chunk.applyAsInt(chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
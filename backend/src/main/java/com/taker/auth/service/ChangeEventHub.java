@@ -0,0 +1,269 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.ChangeEventDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.Task;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.exception.ServiceBusyException;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed task and assignment changes to the subscribers of GET /api/events (server-sent events).
+ * Services report changes here; they are routed after commit, and only to subscribers whose task visibility
+ * ({@link TaskVisibility#covers}, from the membership index) includes the assignee. Assignment changes go to
+ * admins, the assigned user and the project's members.
+ * <p>
+ * Each subscriber has a bounded buffer ({@code app.events.buffer-size}) drained by its own virtual thread, so a
+ * slow client never blocks the committing request. When the buffer is full it is cleared and replaced by one
+ * "resync" event (refetch), as are changes too large to send row by row (user and project removal).
+ * An idle subscriber costs a parked virtual thread and a heartbeat comment every {@code app.events.heartbeat-ms}.
+ * Metrics: events.subscribers, events.resyncs (buffers that overflowed).
+ */
+@Component
+public class ChangeEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventHub.class);
+
+    private static final int RETRY_AFTER_SECONDS = 30;
+
+    /** A task change and the assignee it is routed by. */
+    public record TaskChange(ChangeEventDto event, Long assigneeId, Role assigneeRole) {
+
+        /** Change to {@code task} (assignee and project as loaded), with its status after the change. */
+        public static TaskChange of(String action, Task task, TaskStatus status) {
+            ChangeEventDto event = new ChangeEventDto("task", action);
+            event.setId(task.getId());
+            event.setProjectId(task.getProject() != null ? task.getProject().getId() : null);
+            User assignee = task.getAssignedTo();
+            event.setUserId(assignee != null ? assignee.getId() : null);
+            event.setStatus(status != null ? status.getValue() : null);
+            return new TaskChange(event, event.getUserId(), assignee != null ? assignee.getRole() : null);
+        }
+    }
+
+    private record Assignee(Long id, Role role) {}
+
+    static final class Subscriber {
+        final long id;
+        final Long userId;
+        final TaskVisibility visibility;
+        final SseEmitter emitter;
+        final BlockingQueue<ChangeEventDto> buffer;
+        volatile Thread drainer;
+
+        Subscriber(long id, Long userId, TaskVisibility visibility, SseEmitter emitter, int capacity) {
+            this.id = id;
+            this.userId = userId;
+            this.visibility = visibility;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /** Queues the events, or replaces the whole buffer with a resync when they do not fit; true if it did. */
+        synchronized boolean offer(List<ChangeEventDto> events) {
+            if (events.size() <= buffer.remainingCapacity()) {
+                buffer.addAll(events);
+                return false;
+            }
+            buffer.clear();
+            buffer.add(resyncEvent());
+            return true;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ProjectMembershipIndex membershipIndex;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final long heartbeatMs;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Counter resyncs;
+
+    public ChangeEventHub(UserRepository userRepository, ProjectMembershipIndex membershipIndex, MeterRegistry meterRegistry,
+                          @Value("${app.events.buffer-size:64}") int bufferSize,
+                          @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${app.events.timeout-ms:1800000}") long timeoutMs,
+                          @Value("${app.events.heartbeat-ms:25000}") long heartbeatMs) {
+        this.userRepository = userRepository;
+        this.membershipIndex = membershipIndex;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.heartbeatMs = Math.max(1000, heartbeatMs);
+        Gauge.builder("events.subscribers", subscribers, Map::size)
+                .description("Open /api/events streams").register(meterRegistry);
+        this.resyncs = Counter.builder("events.resyncs")
+                .description("Event buffers that overflowed and were replaced by a resync").register(meterRegistry);
+    }
+
+    /** Opens a stream for the current user; the first event is "ready". Over the subscriber limit: 503. */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceBusyException("Too many open event streams. Please try again later.", RETRY_AFTER_SECONDS);
+        }
+        String email = SecurityUtils.currentUserEmail();
+        User current = (email != null && !email.isBlank()) ? userRepository.findByEmail(email).orElse(null) : null;
+        Subscriber s = register(current);
+        s.drainer = Thread.ofVirtual().name("events-" + s.id).start(() -> drain(s));
+        return s.emitter;
+    }
+
+    /** Adds a subscriber with "ready" queued; nothing is sent until a drainer runs. */
+    Subscriber register(User current) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber s = new Subscriber(nextId.incrementAndGet(), current != null ? current.getId() : null,
+                TaskVisibility.of(current), emitter, bufferSize);
+        subscribers.put(s.id, s);
+        emitter.onCompletion(() -> remove(s));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(s));
+        s.offer(List.of(new ChangeEventDto("ready", null)));
+        return s;
+    }
+
+    /** Tasks created, updated or deleted in the current transaction. */
+    public void tasksChanged(List<TaskChange> changes) {
+        if (changes.isEmpty()) return;
+        afterCommit(() -> dispatchTasks(changes));
+    }
+
+    /** A user was assigned to a project in the current transaction. */
+    public void assigned(Long projectId, Long userId, ProjectRole role) {
+        afterCommit(() -> {
+            ChangeEventDto event = new ChangeEventDto("assignment", "assigned");
+            event.setProjectId(projectId);
+            event.setUserId(userId);
+            event.setProjectRole(role != null ? role.name() : null);
+            Set<Long> members = membershipIndex.membersOf(projectId).keySet();
+            for (Subscriber s : subscribers.values()) {
+                if (s.visibility.scopeAll() || userId.equals(s.userId) || members.contains(s.userId)) {
+                    deliver(s, List.of(event));
+                }
+            }
+        });
+    }
+
+    /** Sends "resync" to admins and to the given users, for changes too large to send row by row. */
+    public void resync(Collection<Long> userIds) {
+        Set<Long> targets = new HashSet<>(userIds);
+        afterCommit(() -> {
+            for (Subscriber s : subscribers.values()) {
+                if (s.visibility.scopeAll() || targets.contains(s.userId)) deliver(s, List.of(resyncEvent()));
+            }
+        });
+    }
+
+    /** Visibility is checked once per subscriber and distinct assignee, not per task. */
+    void dispatchTasks(List<TaskChange> changes) {
+        if (subscribers.isEmpty()) return;
+        Map<Assignee, List<ChangeEventDto>> byAssignee = new LinkedHashMap<>();
+        for (TaskChange c : changes) {
+            byAssignee.computeIfAbsent(new Assignee(c.assigneeId(), c.assigneeRole()), k -> new ArrayList<>()).add(c.event());
+        }
+        for (Subscriber s : subscribers.values()) {
+            List<ChangeEventDto> visible = new ArrayList<>();
+            byAssignee.forEach((a, events) -> {
+                if (s.visibility.covers(a.id(), a.role(), membershipIndex)) visible.addAll(events);
+            });
+            if (!visible.isEmpty()) deliver(s, visible);
+        }
+    }
+
+    private void deliver(Subscriber s, List<ChangeEventDto> events) {
+        if (s.offer(events)) resyncs.increment();
+    }
+
+    private void drain(Subscriber s) {
+        try {
+            while (subscribers.containsKey(s.id)) {
+                ChangeEventDto event = s.buffer.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    s.emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    s.emitter.send(SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream {} closed: {}", s.id, e.getMessage());
+        } finally {
+            remove(s);
+        }
+    }
+
+    private void remove(Subscriber s) {
+        if (subscribers.remove(s.id) == null) return;
+        Thread drainer = s.drainer;
+        if (drainer != null && drainer != Thread.currentThread()) drainer.interrupt();
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (Subscriber s : List.copyOf(subscribers.values())) {
+            remove(s);
+            try {
+                s.emitter.complete();
+            } catch (RuntimeException ignored) {
+                // already completed by the container
+            }
+        }
+    }
+
+    private static ChangeEventDto resyncEvent() {
+        return new ChangeEventDto("resync", null);
+    }
+
+    /**
+     * Runs the dispatch once the surrounding transaction commits (or right away when there is none). A failing
+     * dispatch is logged, not thrown: the change is committed either way.
+     */
+    private static void afterCommit(Runnable dispatch) {
+        Runnable safe = () -> {
+            try {
+                dispatch.run();
+            } catch (RuntimeException e) {
+                log.warn("Change event dispatch failed", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
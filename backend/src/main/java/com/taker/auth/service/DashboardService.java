@@ -0,0 +1,168 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.DashboardAssigneeDto;
+import com.taker.auth.dto.DashboardDto;
+import com.taker.auth.dto.DashboardProjectDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.TaskRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.SecurityUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rollups behind GET /api/dashboard for the caller's visible scope (same rules as the task list, see
+ * {@link TaskVisibility}): task counts by status per project, overdue tasks, the busiest assignees and users by
+ * role. Each rollup is one grouped query; the admin scope reads the task_status_counts counters instead of tasks.
+ * Results are cached per scope for {@code app.dashboard.cache-ttl-ms}.
+ */
+@Service
+public class DashboardService {
+
+    static final int TOP_ASSIGNEES = 10;
+    private static final int MAX_CACHED_SCOPES = 10_000;
+
+    private record Cached(long at, DashboardDto dashboard) {}
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusCountRepository taskStatusCountRepository;
+    private final UserRepository userRepository;
+    private final ProjectMembershipIndex membershipIndex;
+    private final long ttlNanos;
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+
+    public DashboardService(TaskRepository taskRepository, TaskStatusCountRepository taskStatusCountRepository,
+                            UserRepository userRepository, ProjectMembershipIndex membershipIndex,
+                            @Value("${app.dashboard.cache-ttl-ms:15000}") long ttlMs) {
+        this.taskRepository = taskRepository;
+        this.taskStatusCountRepository = taskStatusCountRepository;
+        this.userRepository = userRepository;
+        this.membershipIndex = membershipIndex;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMs));
+    }
+
+    public DashboardDto forCurrentUser() {
+        String email = SecurityUtils.currentUserEmail();
+        User current = (email != null && !email.isBlank()) ? userRepository.findByEmail(email).orElse(null) : null;
+        TaskVisibility visibility = TaskVisibility.of(current);
+        String scope = visibility.scopeAll() ? "all" : current.getRole().name().toLowerCase() + ":" + current.getId();
+        long now = System.nanoTime();
+        Cached hit = cache.get(scope);
+        if (hit != null && now - hit.at() < ttlNanos) {
+            return hit.dashboard();
+        }
+        DashboardDto dashboard = compute(scope, visibility, current);
+        if (ttlNanos > 0) {
+            if (cache.size() >= MAX_CACHED_SCOPES) {
+                cache.entrySet().removeIf(e -> now - e.getValue().at() >= ttlNanos);
+                if (cache.size() >= MAX_CACHED_SCOPES) cache.clear();
+            }
+            cache.put(scope, new Cached(now, dashboard));
+        }
+        return dashboard;
+    }
+
+    private DashboardDto compute(String scope, TaskVisibility v, User current) {
+        LocalDate today = LocalDate.now();
+        PageRequest top = PageRequest.of(0, TOP_ASSIGNEES);
+        List<Object[]> statusRows;
+        List<Object[]> overdueRows;
+        List<Object[]> assigneeRows;
+        if (v.scopeAll()) {
+            statusRows = taskStatusCountRepository.sumAssignedByProjectAndStatus();
+            overdueRows = taskRepository.countOverdueByProject(today, TaskStatus.COMPLETED);
+            assigneeRows = taskStatusCountRepository.sumByUserExcludingStatus(TaskStatus.COMPLETED.getCode(), top);
+        } else {
+            statusRows = taskRepository.countVisibleByProjectAndStatus(v.userId(), false, v.includeOwn(), v.viaRole(),
+                    v.assigneeRoles(), today, TaskStatus.COMPLETED);
+            overdueRows = List.of();
+            assigneeRows = taskRepository.countVisibleOpenByAssignee(v.userId(), false, v.includeOwn(), v.viaRole(),
+                    v.assigneeRoles(), TaskStatus.COMPLETED, top);
+        }
+        DashboardDto dto = new DashboardDto();
+        dto.setScope(scope);
+        dto.setGeneratedAt(Instant.now());
+        dto.setProjects(projects(statusRows, overdueRows));
+        dto.setOverdue(dto.getProjects().stream().mapToLong(DashboardProjectDto::getOverdue).sum());
+        dto.setTopAssignees(assigneeRows.stream()
+                .map(r -> new DashboardAssigneeDto((Long) r[0], (String) r[1], ((Number) r[2]).longValue()))
+                .toList());
+        dto.setUsersByRole(usersByRole(current));
+        return dto;
+    }
+
+    /**
+     * Builds the per-project rows, ordered by project id (tasks without a project last). Status rows are
+     * [projectId, projectName, status, count] plus an optional overdue count; overdue rows are [projectId, count].
+     * Project id 0 (the counters' "no project") is reported as null.
+     */
+    static List<DashboardProjectDto> projects(List<Object[]> statusRows, List<Object[]> overdueRows) {
+        Map<Long, DashboardProjectDto> byProject = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+        for (Object[] row : statusRows) {
+            DashboardProjectDto p = byProject.computeIfAbsent(projectId(row[0]), id -> newProject(id, (String) row[1]));
+            TaskStatus status = row[2] instanceof TaskStatus ts ? ts : TaskStatus.fromCode(((Number) row[2]).shortValue());
+            long count = ((Number) row[3]).longValue();
+            p.getStatusCounts().merge(status.getValue(), count, Long::sum);
+            p.setTotal(p.getTotal() + count);
+            if (row.length > 4 && row[4] != null) p.setOverdue(p.getOverdue() + ((Number) row[4]).longValue());
+        }
+        for (Object[] row : overdueRows) {
+            DashboardProjectDto p = byProject.get(projectId(row[0]));
+            if (p != null) p.setOverdue(p.getOverdue() + ((Number) row[1]).longValue());
+        }
+        return new ArrayList<>(byProject.values());
+    }
+
+    private static Long projectId(Object value) {
+        Long id = (Long) value;
+        return id == null || id == 0L ? null : id;
+    }
+
+    private static DashboardProjectDto newProject(Long id, String name) {
+        DashboardProjectDto p = new DashboardProjectDto();
+        p.setProjectId(id);
+        p.setProjectName(name);
+        p.setStatusCounts(new LinkedHashMap<>());
+        return p;
+    }
+
+    /** Users the caller can see (as in the user list), counted by role in one grouped query per id chunk. */
+    private Map<String, Long> usersByRole(User current) {
+        Role role = current != null ? current.getRole() : Role.ADMIN;
+        List<Object[]> rows;
+        if (role == Role.ADMIN || role == Role.MANAGER) {
+            rows = userRepository.countByRole();
+        } else {
+            Set<Long> visible = role == Role.TEAM_LEADER
+                    ? membershipIndex.membersOfProjectsOf(current.getId(), ProjectRole.TEAM_LEADER)
+                    : membershipIndex.membersOfProjectsOf(current.getId());
+            visible.add(current.getId());
+            List<Long> ids = new ArrayList<>(visible);
+            rows = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += UserSummaryAssembler.CHUNK_SIZE) {
+                rows.addAll(userRepository.countByRoleAndIdIn(
+                        ids.subList(from, Math.min(ids.size(), from + UserSummaryAssembler.CHUNK_SIZE))));
+            }
+        }
+        Map<Role, Long> counts = new EnumMap<>(Role.class);
+        for (Object[] row : rows) {
+            Role r = (Role) row[0];
+            if (r == null || (role == Role.MANAGER && r == Role.ADMIN)) continue;
+            counts.merge(r, ((Number) row[1]).longValue(), Long::sum);
+        }
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.forEach((r, n) -> result.put(r.name().toLowerCase(), n));
+        return result;
+    }
+}
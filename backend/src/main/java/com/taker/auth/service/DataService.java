@@ -6,6 +6,7 @@ import com.taker.auth.exception.AuthException;
 import com.taker.auth.exception.ForbiddenException;
 import com.taker.auth.exception.NotFoundException;
 import com.taker.auth.repository.*;
+import com.taker.auth.util.Paging;
 import com.taker.auth.util.SecurityUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,18 +24,28 @@ public class DataService {
     private final PositionRepository positionRepository;
     private final ProjectRepository projectRepository;
     private final ProjectAssignmentRepository assignmentRepository;
-    private final TaskRepository taskRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserSummaryAssembler summaryAssembler;
+    private final ProjectMembershipIndex membershipIndex;
+    private final CascadeDeleter cascadeDeleter;
+    private final ProjectNameCache projectNameCache;
+    private final ChangeEventHub changeEventHub;
 
     public DataService(UserRepository userRepository, PositionRepository positionRepository,
                        ProjectRepository projectRepository, ProjectAssignmentRepository assignmentRepository,
-                       TaskRepository taskRepository, PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder, UserSummaryAssembler summaryAssembler,
+                       ProjectMembershipIndex membershipIndex, CascadeDeleter cascadeDeleter,
+                       ProjectNameCache projectNameCache, ChangeEventHub changeEventHub) {
         this.userRepository = userRepository;
         this.positionRepository = positionRepository;
         this.projectRepository = projectRepository;
         this.assignmentRepository = assignmentRepository;
-        this.taskRepository = taskRepository;
         this.passwordEncoder = passwordEncoder;
+        this.summaryAssembler = summaryAssembler;
+        this.membershipIndex = membershipIndex;
+        this.cascadeDeleter = cascadeDeleter;
+        this.projectNameCache = projectNameCache;
+        this.changeEventHub = changeEventHub;
     }
 
     public long getUserCount() {
@@ -43,75 +54,75 @@ public class DataService {
 
     public List<UserSummaryDto> getAllUsers() {
         try {
-            return userRepository.findAll().stream()
-                    .map(this::toUserSummarySafe)
-                    .filter(java.util.Objects::nonNull)
-                    .collect(Collectors.toList());
+            return summaryAssembler.toSummaries(userRepository.findAllWithPosition());
+        } catch (Exception e) {
+            org.slf4j.LoggerFactory.getLogger(DataService.class).error("getAllUsers failed", e);
+            return java.util.Collections.emptyList();
+        }
+    }
+
+    /** Keyset page of all users: ids greater than {@code after}, at most {@code limit} (null = no paging). */
+    public List<UserSummaryDto> getAllUsers(Long after, Integer limit) {
+        if (after == null && limit == null) return getAllUsers();
+        try {
+            return summaryAssembler.toSummaries(userRepository.findPageWithPosition(after, Paging.pageable(limit)));
         } catch (Exception e) {
             org.slf4j.LoggerFactory.getLogger(DataService.class).error("getAllUsers failed", e);
             return java.util.Collections.emptyList();
         }
     }
 
+    public List<UserSummaryDto> getAllUsersFiltered(String forRole, String forEmail) {
+        return getAllUsersFiltered(forRole, forEmail, null, null);
+    }
+
     /**
      * Returns users visible to the given role/email. Admin: all; Manager: all except admins;
      * Team Leader: their manager + their team members; Member: their manager, team leader, and project team members.
+     * Paged by id like {@link #getAllUsers(Long, Integer)}.
      */
-    public List<UserSummaryDto> getAllUsersFiltered(String forRole, String forEmail) {
+    public List<UserSummaryDto> getAllUsersFiltered(String forRole, String forEmail, Long after, Integer limit) {
         String email = (forEmail != null && !forEmail.isBlank()) ? forEmail.trim() : SecurityUtils.currentUserEmail();
         if (email == null || email.isBlank()) {
-            return getAllUsers();
+            return getAllUsers(after, limit);
         }
         User current = userRepository.findByEmail(email).orElse(null);
-        if (current == null) return getAllUsers();
+        if (current == null) return getAllUsers(after, limit);
         Role role = (forRole != null && !forRole.isBlank()) ? parseRole(forRole) : current.getRole();
 
         if (role == Role.ADMIN) {
-            return userRepository.findAll().stream()
-                    .map(this::toUserSummarySafe)
-                    .filter(java.util.Objects::nonNull)
-                    .collect(Collectors.toList());
+            return getAllUsers(after, limit);
         }
         if (role == Role.MANAGER) {
-            return userRepository.findAll().stream()
-                    .filter(u -> u.getRole() != Role.ADMIN)
-                    .map(this::toUserSummarySafe)
-                    .filter(java.util.Objects::nonNull)
-                    .collect(Collectors.toList());
+            return summaryAssembler.toSummaries(
+                    userRepository.findPageWithPositionByRoleNot(Role.ADMIN, after, Paging.pageable(limit)));
         }
         if (role == Role.TEAM_LEADER) {
-            Set<Long> visible = new HashSet<>();
+            Set<Long> visible = membershipIndex.membersOfProjectsOf(current.getId(), ProjectRole.TEAM_LEADER);
             visible.add(current.getId());
-            List<ProjectAssignment> tlAssignments = assignmentRepository.findByUserIdAndProjectRole(current.getId(), ProjectRole.TEAM_LEADER);
-            for (ProjectAssignment pa : tlAssignments) {
-                Long projectId = pa.getProject().getId();
-                assignmentRepository.findByProjectId(projectId).stream()
-                        .map(a -> a.getUser().getId())
-                        .forEach(visible::add);
-            }
-            return userRepository.findAll().stream()
-                    .filter(u -> visible.contains(u.getId()))
-                    .map(this::toUserSummarySafe)
-                    .filter(java.util.Objects::nonNull)
-                    .collect(Collectors.toList());
+            return summaryAssembler.toSummaries(loadUsersPage(visible, after, limit));
         }
         if (role == Role.MEMBER) {
-            Set<Long> visible = new HashSet<>();
+            Set<Long> visible = membershipIndex.membersOfProjectsOf(current.getId());
             visible.add(current.getId());
-            List<ProjectAssignment> memberAssignments = assignmentRepository.findByUserId(current.getId());
-            for (ProjectAssignment pa : memberAssignments) {
-                Long projectId = pa.getProject().getId();
-                assignmentRepository.findByProjectId(projectId).stream()
-                        .map(a -> a.getUser().getId())
-                        .forEach(visible::add);
-            }
-            return userRepository.findAll().stream()
-                    .filter(u -> visible.contains(u.getId()))
-                    .map(this::toUserSummarySafe)
-                    .filter(java.util.Objects::nonNull)
-                    .collect(Collectors.toList());
+            return summaryAssembler.toSummaries(loadUsersPage(visible, after, limit));
+        }
+        return getAllUsers(after, limit);
+    }
+
+    /** Pages the visible id set in memory first, so only one page of ids is ever sent to the database. */
+    private List<User> loadUsersPage(Set<Long> visibleIds, Long after, Integer limit) {
+        Integer max = Paging.clamp(limit);
+        List<Long> ids = visibleIds.stream()
+                .filter(id -> after == null || id > after)
+                .sorted()
+                .limit(max != null ? max : Long.MAX_VALUE)
+                .collect(Collectors.toList());
+        List<User> users = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += UserSummaryAssembler.CHUNK_SIZE) {
+            users.addAll(userRepository.findAllWithPositionByIdIn(ids.subList(from, Math.min(ids.size(), from + UserSummaryAssembler.CHUNK_SIZE))));
         }
-        return getAllUsers();
+        return users;
     }
 
     public ProjectTeamDto getProjectTeam(Long projectId) {
@@ -166,6 +177,8 @@ public class DataService {
             }
         }
         assignmentRepository.save(new ProjectAssignment(project, user, projRole));
+        membershipIndex.onAssigned(projectId, userId, projRole);
+        changeEventHub.assigned(projectId, userId, projRole);
         return toUserSummary(user);
     }
 
@@ -185,23 +198,26 @@ public class DataService {
     }
 
     public List<String> getTeamLeaderAssignedProjects() {
+        return new ArrayList<>(getTeamLeaderAssignedProjectIds().values());
+    }
+
+    /** The current team leader's projects as id → name, in assignment order, so callers need no name lookup. */
+    public Map<Long, String> getTeamLeaderAssignedProjectIds() {
         String email = SecurityUtils.currentUserEmail();
-        if (email == null) return List.of();
+        if (email == null) return Map.of();
         User leader = userRepository.findByEmail(email).orElse(null);
-        if (leader == null || leader.getRole() != Role.TEAM_LEADER) return List.of();
-        return assignmentRepository.findByUserIdAndProjectRole(leader.getId(), ProjectRole.TEAM_LEADER).stream()
-                .map(a -> a.getProject().getName())
-                .distinct()
-                .collect(Collectors.toList());
+        if (leader == null || leader.getRole() != Role.TEAM_LEADER) return Map.of();
+        Map<Long, String> projects = new LinkedHashMap<>();
+        for (ProjectAssignment a : assignmentRepository.findByUserIdAndProjectRole(leader.getId(), ProjectRole.TEAM_LEADER)) {
+            projects.putIfAbsent(a.getProject().getId(), a.getProject().getName());
+        }
+        return projects;
     }
 
     public Map<String, List<TeamMemberDto>> getTeamLeaderTeamMembers() {
-        List<String> projectNames = getTeamLeaderAssignedProjects();
         Map<String, List<TeamMemberDto>> result = new LinkedHashMap<>();
-        for (String pname : projectNames) {
-            Project project = projectRepository.findAll().stream().filter(p -> p.getName().equals(pname)).findFirst().orElse(null);
-            if (project == null) continue;
-            List<TeamMemberDto> members = assignmentRepository.findByProjectId(project.getId()).stream()
+        for (Map.Entry<Long, String> project : getTeamLeaderAssignedProjectIds().entrySet()) {
+            List<TeamMemberDto> members = assignmentRepository.findByProjectId(project.getKey()).stream()
                     .filter(a -> a.getProjectRole() == ProjectRole.TEAM_MEMBER)
                     .map(a -> {
                         TeamMemberDto dto = new TeamMemberDto();
@@ -212,7 +228,7 @@ public class DataService {
                         return dto;
                     })
                     .collect(Collectors.toList());
-            result.put(pname, members);
+            result.put(project.getValue(), members);
         }
         return result;
     }
@@ -283,18 +299,25 @@ public class DataService {
         if (email == null) return List.of();
         User leader = userRepository.findByEmail(email).orElse(null);
         if (leader == null || leader.getRole() != Role.TEAM_LEADER) return List.of();
-        Project project = projectRepository.findAll().stream().filter(p -> p.getName().equals(projectName)).findFirst().orElse(null);
-        if (project == null) return List.of();
-        return assignmentRepository.findByProjectId(project.getId()).stream()
+        Long projectId = projectNameCache.idOf(projectName).orElse(null);
+        if (projectId == null) return List.of();
+        return assignmentRepository.findByProjectId(projectId).stream()
                 .filter(a -> a.getProjectRole() == ProjectRole.TEAM_MEMBER)
                 .map(a -> a.getUser().getId())
                 .distinct()
                 .collect(Collectors.toList());
     }
 
-    /** Admin: can kick anyone except admin. Manager: can kick team leader and team member only. */
-    @Transactional
     public void kickUser(Long targetUserId) {
+        kickUser(targetUserId, null);
+    }
+
+    /**
+     * Admin: can kick anyone except admin. Manager: can kick team leader and team member only.
+     * The user's tasks are deleted, or moved to {@code reassignTo} when given. Not transactional: the
+     * {@link CascadeDeleter} commits per chunk.
+     */
+    public void kickUser(Long targetUserId, Long reassignTo) {
         String email = SecurityUtils.currentUserEmail();
         if (email == null || email.isBlank()) {
             throw new ForbiddenException("Not authenticated");
@@ -312,9 +335,24 @@ public class DataService {
         } else {
             throw new ForbiddenException("Only admin or manager can kick users");
         }
-        assignmentRepository.findByUserId(targetUserId).forEach(assignmentRepository::delete);
-        taskRepository.findByAssignedToId(targetUserId).forEach(taskRepository::delete);
-        userRepository.delete(target);
+        if (reassignTo != null) {
+            if (reassignTo.equals(targetUserId)) {
+                throw new AuthException("Cannot reassign tasks to the user being removed");
+            }
+            if (!userRepository.existsById(reassignTo)) {
+                throw new NotFoundException("User to reassign tasks to not found");
+            }
+        }
+        // Everyone who could see the removed (or receiving) user's tasks refetches once they are gone.
+        Set<Long> affected = new HashSet<>(membershipIndex.membersOfProjectsOf(targetUserId));
+        affected.add(targetUserId);
+        if (reassignTo != null) {
+            affected.addAll(membershipIndex.membersOfProjectsOf(reassignTo));
+            affected.add(reassignTo);
+        }
+        cascadeDeleter.deleteUser(targetUserId, reassignTo);
+        membershipIndex.onUserRemoved(targetUserId);
+        changeEventHub.resync(affected);
     }
 
     @Transactional
@@ -389,91 +427,7 @@ public class DataService {
         };
     }
 
-    private void setManagerAndTeamLeader(UserSummaryDto dto, User u) {
-        try {
-            List<ProjectAssignment> userAssignments = assignmentRepository.findByUserId(u.getId());
-            if (userAssignments == null || userAssignments.isEmpty()) return;
-            ProjectAssignment first = userAssignments.get(0);
-            if (first == null) return;
-            Project firstProject = first.getProject();
-            if (firstProject == null) return;
-            List<ProjectAssignment> projectAssignments = assignmentRepository.findByProjectId(firstProject.getId());
-            if (projectAssignments == null) return;
-            for (ProjectAssignment a : projectAssignments) {
-                if (a != null && a.getProjectRole() == ProjectRole.MANAGER) {
-                    User manager = a.getUser();
-                    if (manager != null && manager.getFullName() != null) {
-                        dto.setManagerName(manager.getFullName());
-                    }
-                    break;
-                }
-            }
-            for (ProjectAssignment a : projectAssignments) {
-                if (a != null && a.getProjectRole() == ProjectRole.TEAM_LEADER) {
-                    User tl = a.getUser();
-                    if (tl != null && tl.getFullName() != null) {
-                        dto.setTeamLeaderName(tl.getFullName());
-                    }
-                    break;
-                }
-            }
-        } catch (Exception ignored) {
-            // Skip manager/teamLeader if any lazy load or missing data
-        }
-    }
-
-    /** Safe mapping: returns null if any field causes an exception, so one bad user does not break the whole list. */
-    private UserSummaryDto toUserSummarySafe(User u) {
-        try {
-            return toUserSummary(u);
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(DataService.class).warn("Skip user id={}: {}", u.getId(), e.getMessage());
-            return null;
-        }
-    }
-
     private UserSummaryDto toUserSummary(User u) {
-        if (u == null) return null;
-        UserSummaryDto dto = new UserSummaryDto();
-        dto.setId(u.getId());
-        dto.setName(u.getFullName() != null ? u.getFullName() : "");
-        dto.setTitle(u.getTitle() != null ? u.getTitle() : "");
-        dto.setRole(u.getRole() != null ? u.getRole().name().toLowerCase() : "member");
-        try {
-            dto.setPosition(u.getPosition() != null ? u.getPosition().getName() : null);
-        } catch (Exception ignored) {
-            dto.setPosition(null);
-        }
-        dto.setTemporary(u.isTemporary());
-        dto.setEmail(u.getEmail() != null ? u.getEmail() : "");
-        dto.setLoginId(u.getLoginId());
-        dto.setPhotoUrl(u.getPhotoUrl());
-        dto.setAge(u.getAge());
-        dto.setSkills(u.getSkills());
-        try {
-            dto.setCurrentProject(getCurrentProjectName(u.getId()));
-        } catch (Exception ignored) {
-            dto.setCurrentProject(null);
-        }
-        try {
-            dto.setProjectsCompletedCount((int) taskRepository.countByAssignedToIdAndStatus(u.getId(), "completed"));
-        } catch (Exception ignored) {
-            dto.setProjectsCompletedCount(0);
-        }
-        setManagerAndTeamLeader(dto, u);
-        return dto;
-    }
-
-    private String getCurrentProjectName(Long userId) {
-        try {
-            List<ProjectAssignment> assignments = assignmentRepository.findByUserId(userId);
-            if (assignments == null || assignments.isEmpty()) return null;
-            ProjectAssignment first = assignments.get(0);
-            if (first == null) return null;
-            Project p = first.getProject();
-            return p != null ? p.getName() : null;
-        } catch (Exception e) {
-            return null;
-        }
+        return summaryAssembler.toSummary(u);
     }
 }
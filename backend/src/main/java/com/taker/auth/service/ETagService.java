@@ -0,0 +1,91 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.TaskFilter;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.Paging;
+import com.taker.auth.util.SecurityUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Strong ETags for GET /api/projects, /api/projects/{id}/team, /api/users/{id} and /api/tasks, read from change
+ * versions (V6, V7) in one aggregate statement, so a matching If-None-Match is answered before the response is
+ * built. A tag is the row count and version sum of every row the response is made of: any insert, update or delete
+ * of one of them changes it, including late commits by older transactions (a max would miss those).
+ * Positions are seeded reference data and not versioned; renaming one does not change the tags.
+ * Null means "no tag" (entity missing, invalid filter): the endpoint answers as usual.
+ */
+@Service
+public class ETagService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final TaskStatusCountRepository taskStatusCountRepository;
+
+    public ETagService(ProjectRepository projectRepository, ProjectAssignmentRepository assignmentRepository,
+                       UserRepository userRepository, TaskStatusCountRepository taskStatusCountRepository) {
+        this.projectRepository = projectRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.taskStatusCountRepository = taskStatusCountRepository;
+    }
+
+    /** Projects with their progress: a keyset page's tag covers only that page's rows, the unpaged list's every row. */
+    public String projects(Long after, Integer limit) {
+        Integer pageSize = Paging.clamp(limit);
+        return tag("projects", pageSize != null ? projectRepository.findPageVersion(after, pageSize)
+                : projectRepository.findListVersion());
+    }
+
+    public String projectTeam(Long projectId) {
+        return tag("team", assignmentRepository.findTeamVersion(projectId));
+    }
+
+    public String user(Long userId) {
+        return tag("user", userRepository.findSummaryVersion(userId));
+    }
+
+    /** Tasks visible to the current user with these filters (as TaskService.findTasksForCurrentUser). */
+    public String tasks(TaskFilter filter, Long after, Integer limit) {
+        TaskFilter f = filter != null ? filter : TaskFilter.none();
+        Short status = null;
+        if (f.getStatus() != null && !f.getStatus().isBlank()) {
+            TaskStatus parsed = TaskStatus.parse(f.getStatus());
+            if (parsed == null) return null;
+            status = parsed.getCode();
+        }
+        String email = SecurityUtils.currentUserEmail();
+        User current = (email != null && !email.isBlank()) ? userRepository.findByEmail(email).orElse(null) : null;
+        boolean unfiltered = status == null && f.getProjectId() == null && f.getAssigneeId() == null
+                && f.getDueFrom() == null && f.getDueTo() == null && after == null && limit == null;
+        TaskVisibility v = TaskVisibility.of(current);
+        return tag("tasks", taskStatusCountRepository.findVisibleVersion(v.userId(), v.scopeAll(), v.includeOwn(),
+                v.viaRole(), v.assigneeRoles(), current == null && unfiltered, status, f.getProjectId(),
+                f.getAssigneeId()));
+    }
+
+    /** Tasks assigned to {@code userId} (GET /api/tasks?userId=). */
+    public String tasksAssignedTo(Long userId) {
+        TaskVisibility all = TaskVisibility.of(null);
+        return tag("tasks", taskStatusCountRepository.findVisibleVersion(null, true, false, null,
+                all.assigneeRoles(), false, null, null, userId));
+    }
+
+    /** kind-n1.n2... in base 36; null when the query found no row. */
+    static String tag(String kind, List<Object[]> rows) {
+        if (rows == null || rows.isEmpty() || rows.get(0) == null) return null;
+        StringJoiner tag = new StringJoiner(".", kind + "-", "");
+        for (Object value : rows.get(0)) {
+            tag.add(Long.toString(value != null ? ((Number) value).longValue() : 0L, 36));
+        }
+        return tag.toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.taker.auth.service;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.ObjectProvider;
 
@@ -25,6 +26,8 @@ public class EmailService {
         return mailSender != null && mailEnabled && fromEmail != null && !fromEmail.isBlank();
     }
 
+    /** Sent on the application task executor (virtual threads when enabled); the caller does not wait for SMTP. */
+    @Async
     public void sendOtp(String toEmail, String otp) {
         if (!isMailConfigured()) {
             return;
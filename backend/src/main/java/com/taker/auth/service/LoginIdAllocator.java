@@ -0,0 +1,168 @@
+package com.taker.auth.service;
+
+import com.taker.auth.exception.AuthException;
+import com.taker.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out free 5-digit login IDs (10000–99999) from an in-memory shuffled batch, so signup needs no probe queries.
+ * A refill loads all taken IDs in one query, shuffles the free ones and keeps {@value #BATCH_SIZE} of them;
+ * IDs handed out but not yet seen in the table stay excluded, so concurrent signups never get the same ID; an ID
+ * handed out inside a transaction that does not commit is released again. Other instances allocate from their own
+ * pool, so callers must still expect uk_users_login_id (AuthService retries once).
+ * Remaining free IDs are exposed on /actuator/info ("loginIds") and as the "login.ids.remaining" metric.
+ * Guarded by a {@link ReentrantLock} rather than synchronized so a refill query does not pin a virtual thread's carrier.
+ */
+@Component
+public class LoginIdAllocator implements InfoContributor {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginIdAllocator.class);
+
+    static final int MIN_ID = 10000;
+    static final int MAX_ID = 99999;
+    static final int BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final Random random;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Integer> batch = new ArrayDeque<>();
+    private final Set<Integer> pending = new HashSet<>();
+    private int issuedSinceRefill;
+    private int freeAtRefill = -1;
+    private int refills;
+
+    @Autowired
+    public LoginIdAllocator(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this(userRepository, meterRegistry, new Random());
+    }
+
+    LoginIdAllocator(UserRepository userRepository, MeterRegistry meterRegistry, Random random) {
+        this.userRepository = userRepository;
+        this.random = random;
+        Gauge.builder("login.ids.remaining", this, LoginIdAllocator::remaining)
+                .description("Free 5-digit login IDs left (as of the last refill, minus IDs handed out since)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Next free login ID; throws {@link AuthException} once all 90,000 IDs are taken. Inside a transaction the ID
+     * is {@linkplain #release released} if that transaction rolls back.
+     */
+    public int next() {
+        int id;
+        lock.lock();
+        try {
+            if (batch.isEmpty()) {
+                refill();
+            }
+            Integer polled = batch.poll();
+            if (polled == null) {
+                throw new AuthException("No login IDs left. Contact an administrator.");
+            }
+            id = polled;
+            pending.add(id);
+            issuedSinceRefill++;
+        } finally {
+            lock.unlock();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) release(id);
+                }
+            });
+        }
+        return id;
+    }
+
+    /**
+     * Forgets an ID that was handed out but not stored. It is not reused right away (another instance may have
+     * stored it); the next refill hands it out again if it is still free.
+     */
+    public void release(int id) {
+        lock.lock();
+        try {
+            pending.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** IDs handed out and not yet seen in the table. */
+    int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Free IDs left, or -1 before the first refill. */
+    public int remaining() {
+        lock.lock();
+        try {
+            return freeAtRefill < 0 ? -1 : Math.max(0, freeAtRefill - issuedSinceRefill);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            details.put("remaining", remaining());
+            details.put("batched", batch.size());
+            details.put("refills", refills);
+        } finally {
+            lock.unlock();
+        }
+        builder.withDetail("loginIds", details);
+    }
+
+    private void refill() {
+        BitSet taken = new BitSet(MAX_ID - MIN_ID + 1);
+        for (Integer used : userRepository.findAllLoginIds()) {
+            if (used != null && used >= MIN_ID && used <= MAX_ID) taken.set(used - MIN_ID);
+        }
+        // Handed out and not committed yet: never hand these out twice.
+        pending.removeIf(id -> taken.get(id - MIN_ID));
+        for (Integer id : pending) {
+            taken.set(id - MIN_ID);
+        }
+        int[] free = new int[MAX_ID - MIN_ID + 1 - taken.cardinality()];
+        int n = 0;
+        for (int i = taken.nextClearBit(0); i <= MAX_ID - MIN_ID; i = taken.nextClearBit(i + 1)) {
+            free[n++] = MIN_ID + i;
+        }
+        // Partial Fisher–Yates: only the first BATCH_SIZE slots need to be random.
+        int take = Math.min(BATCH_SIZE, n);
+        for (int i = 0; i < take; i++) {
+            int j = i + random.nextInt(n - i);
+            int tmp = free[i];
+            free[i] = free[j];
+            free[j] = tmp;
+            batch.add(free[i]);
+        }
+        issuedSinceRefill = 0;
+        freeAtRefill = n;
+        refills++;
+        log.info("Login ID pool refilled: {} ids batched, {} free", take, n);
+    }
+}
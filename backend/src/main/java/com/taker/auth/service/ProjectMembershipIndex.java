@@ -0,0 +1,319 @@
+package com.taker.auth.service;
+
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of project_assignments: project → members and user → projects, each with the {@link ProjectRole}.
+ * Loaded once when the app is ready and kept in sync by the services after their transaction commits
+ * (assign user to project, kick user, delete project), so visibility checks need no SQL. Writes this process does not
+ * see (another instance, the synthetic data generator, a manual fix) are caught by a scheduled check of the table's
+ * row count and change version sum ({@code app.membership-index.check-cron}), which reloads the index when they moved.
+ * Size and last rebuild time are exposed on /actuator/info and as "membership.index.*" metrics.
+ */
+@Component
+public class ProjectMembershipIndex implements InfoContributor {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectMembershipIndex.class);
+
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final Timer rebuildTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // A lock rather than synchronized: the first load runs a query, and a virtual thread blocked inside
+    // synchronized would pin its carrier thread.
+    private final Lock loadLock = new ReentrantLock();
+    private final Map<Long, Map<Long, ProjectRole>> membersByProject = new HashMap<>();
+    private final Map<Long, Map<Long, ProjectRole>> projectsByUser = new HashMap<>();
+    // Changes applied while a rebuild's query runs, replayed onto its result (which may predate them). Null otherwise.
+    private List<Delta> duringLoad;
+    private volatile Version loadedVersion;
+    private volatile boolean loaded;
+    private volatile long lastRebuildMs;
+    private volatile Instant lastRebuildAt;
+
+    public ProjectMembershipIndex(ProjectAssignmentRepository assignmentRepository, MeterRegistry meterRegistry) {
+        this.assignmentRepository = assignmentRepository;
+        this.rebuildTimer = Timer.builder("membership.index.rebuild")
+                .description("Time to reload the project membership index from the database")
+                .register(meterRegistry);
+        Gauge.builder("membership.index.projects", this, ProjectMembershipIndex::projectCount)
+                .description("Projects held in the membership index")
+                .register(meterRegistry);
+        Gauge.builder("membership.index.assignments", this, ProjectMembershipIndex::assignmentCount)
+                .description("Assignments held in the membership index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /** A committed change, applied to the live maps or replayed onto the maps of a rebuild. */
+    private interface Delta {
+        void apply(Map<Long, Map<Long, ProjectRole>> byProject, Map<Long, Map<Long, ProjectRole>> byUser);
+    }
+
+    /** Row count and change version sum of project_assignments. */
+    record Version(long rows, long versionSum) {}
+
+    /** Reloads the index when project_assignments changed since the last load (including by this process). */
+    @Scheduled(cron = "${app.membership-index.check-cron:*/30 * * * * *}")
+    public void checkForChanges() {
+        if (!loaded) return;
+        Version current = currentVersion();
+        if (!current.equals(loadedVersion)) {
+            log.debug("project_assignments changed ({} -> {}), reloading the membership index", loadedVersion, current);
+            rebuild();
+        }
+    }
+
+    /**
+     * Reloads everything from project_assignments in one query. Rebuilds run one at a time, so a rebuild that read
+     * earlier rows can never overwrite one that read later rows; changes committed while the query runs are
+     * replayed onto its result.
+     */
+    public void rebuild() {
+        loadLock.lock();
+        try {
+            load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        // Read before the rows: a write committing in between makes the next check reload once more, never less.
+        Version version = currentVersion();
+        List<Object[]> rows;
+        lock.writeLock().lock();
+        try {
+            duringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            rows = assignmentRepository.findAllMembershipRows();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                duringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        Map<Long, Map<Long, ProjectRole>> byProject = new HashMap<>();
+        Map<Long, Map<Long, ProjectRole>> byUser = new HashMap<>();
+        for (Object[] row : rows) {
+            Long projectId = (Long) row[0];
+            Long userId = (Long) row[1];
+            ProjectRole role = (ProjectRole) row[2];
+            byProject.computeIfAbsent(projectId, k -> new HashMap<>()).put(userId, role);
+            byUser.computeIfAbsent(userId, k -> new HashMap<>()).put(projectId, role);
+        }
+        lock.writeLock().lock();
+        try {
+            for (Delta delta : duringLoad) delta.apply(byProject, byUser);
+            duringLoad = null;
+            membersByProject.clear();
+            membersByProject.putAll(byProject);
+            projectsByUser.clear();
+            projectsByUser.putAll(byUser);
+            loadedVersion = version;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        lastRebuildMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        lastRebuildAt = Instant.now();
+        log.info("Project membership index loaded: {} projects, {} assignments in {} ms",
+                byProject.size(), rows.size(), lastRebuildMs);
+    }
+
+    /** User ids sharing a project with the given user, limited to projects where the user has one of the given roles (all roles if none). */
+    public Set<Long> membersOfProjectsOf(Long userId, ProjectRole... asRoles) {
+        ensureLoaded();
+        Set<ProjectRole> roles = asRoles.length == 0 ? EnumSet.allOf(ProjectRole.class) : EnumSet.copyOf(Arrays.asList(asRoles));
+        Set<Long> result = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, ProjectRole> projects = projectsByUser.getOrDefault(userId, Map.of());
+            for (Map.Entry<Long, ProjectRole> e : projects.entrySet()) {
+                if (!roles.contains(e.getValue())) continue;
+                result.addAll(membersByProject.getOrDefault(e.getKey(), Map.of()).keySet());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /** True if {@code otherUserId} is on any project where {@code userId} has the given role. */
+    public boolean sharesProject(Long userId, Long otherUserId, ProjectRole asRole) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Map<Long, ProjectRole> projects = projectsByUser.getOrDefault(userId, Map.of());
+            for (Map.Entry<Long, ProjectRole> e : projects.entrySet()) {
+                if (e.getValue() != asRole) continue;
+                if (membersByProject.getOrDefault(e.getKey(), Map.of()).containsKey(otherUserId)) return true;
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Project ids of the user, with the role on each project. */
+    public Map<Long, ProjectRole> projectsOf(Long userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(projectsByUser.getOrDefault(userId, Map.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Members of the project, with the role of each. */
+    public Map<Long, ProjectRole> membersOf(Long projectId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(membersByProject.getOrDefault(projectId, Map.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onAssigned(Long projectId, Long userId, ProjectRole role) {
+        afterCommit((byProject, byUser) -> {
+            byProject.computeIfAbsent(projectId, k -> new HashMap<>()).put(userId, role);
+            byUser.computeIfAbsent(userId, k -> new HashMap<>()).put(projectId, role);
+        });
+    }
+
+    public void onUserRemoved(Long userId) {
+        afterCommit((byProject, byUser) -> {
+            Map<Long, ProjectRole> projects = byUser.remove(userId);
+            if (projects == null) return;
+            for (Long projectId : projects.keySet()) {
+                Map<Long, ProjectRole> members = byProject.get(projectId);
+                if (members != null) members.remove(userId);
+            }
+        });
+    }
+
+    public void onProjectDeleted(Long projectId) {
+        afterCommit((byProject, byUser) -> {
+            Map<Long, ProjectRole> members = byProject.remove(projectId);
+            if (members == null) return;
+            for (Long userId : members.keySet()) {
+                Map<Long, ProjectRole> projects = byUser.get(userId);
+                if (projects == null) continue;
+                projects.remove(projectId);
+                if (projects.isEmpty()) byUser.remove(userId);
+            }
+        });
+    }
+
+    public int projectCount() {
+        lock.readLock().lock();
+        try {
+            return membersByProject.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int assignmentCount() {
+        lock.readLock().lock();
+        try {
+            int n = 0;
+            for (Map<Long, ProjectRole> members : membersByProject.values()) n += members.size();
+            return n;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("loaded", loaded);
+        details.put("projects", projectCount());
+        details.put("assignments", assignmentCount());
+        details.put("lastRebuildMs", lastRebuildMs);
+        details.put("lastRebuildAt", lastRebuildAt != null ? lastRebuildAt.toString() : null);
+        builder.withDetail("membershipIndex", details);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            loadLock.lock();
+            try {
+                if (!loaded) rebuild();
+            } finally {
+                loadLock.unlock();
+            }
+        }
+    }
+
+    private Version currentVersion() {
+        List<Object[]> rows = assignmentRepository.findMembershipVersion();
+        Object[] row = rows.isEmpty() ? null : rows.get(0);
+        if (row == null) return new Version(0, 0);
+        return new Version(row[0] != null ? ((Number) row[0]).longValue() : 0L,
+                row[1] != null ? ((Number) row[1]).longValue() : 0L);
+    }
+
+    /** Applies the change once the surrounding transaction commits (or right away when there is none). */
+    private void afterCommit(Delta change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Delta change) {
+        lock.writeLock().lock();
+        try {
+            change.apply(membersByProject, projectsByUser);
+            if (duringLoad != null) duringLoad.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taker.auth.service;
+
+import com.taker.auth.entity.Project;
+import com.taker.auth.repository.ProjectRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project name → id, filled on first lookup with {@link ProjectRepository#findByName(String)} (names are unique).
+ * ProjectService reports creates and deletes, applied once their transaction commits. Unknown names are not
+ * cached, so a project is found as soon as it exists.
+ */
+@Component
+public class ProjectNameCache {
+
+    private final ProjectRepository projectRepository;
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+
+    public ProjectNameCache(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    public Optional<Long> idOf(String name) {
+        if (name == null) return Optional.empty();
+        Long id = idsByName.get(name);
+        if (id == null) {
+            // Not computeIfAbsent: that would run the query while holding the map's bin lock.
+            id = projectRepository.findByName(name).map(Project::getId).orElse(null);
+            if (id != null) idsByName.put(name, id);
+        }
+        return Optional.ofNullable(id);
+    }
+
+    public void onProjectCreated(String name, Long id) {
+        afterCommit(() -> idsByName.put(name, id));
+    }
+
+    public void onProjectDeleted(Long id) {
+        afterCommit(() -> idsByName.values().remove(id));
+    }
+
+    /** Applies the change once the surrounding transaction commits (or right away when there is none). */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -2,27 +2,69 @@ package com.taker.auth.service;
 
 import com.taker.auth.dto.ProjectDto;
 import com.taker.auth.dto.CreateProjectRequest;
+import com.taker.auth.exception.AuthException;
 import com.taker.auth.exception.NotFoundException;
 import com.taker.auth.entity.Project;
+import com.taker.auth.entity.TaskStatus;
 import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import com.taker.auth.util.Paging;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class ProjectService {
     private final ProjectRepository projectRepository;
+    private final ProjectMembershipIndex membershipIndex;
+    private final CascadeDeleter cascadeDeleter;
+    private final ProjectNameCache nameCache;
+    private final TaskStatusCountRepository taskStatusCountRepository;
+    private final ChangeEventHub changeEventHub;
 
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, ProjectMembershipIndex membershipIndex,
+                          CascadeDeleter cascadeDeleter, ProjectNameCache nameCache,
+                          TaskStatusCountRepository taskStatusCountRepository, ChangeEventHub changeEventHub) {
         this.projectRepository = projectRepository;
+        this.membershipIndex = membershipIndex;
+        this.cascadeDeleter = cascadeDeleter;
+        this.nameCache = nameCache;
+        this.taskStatusCountRepository = taskStatusCountRepository;
+        this.changeEventHub = changeEventHub;
     }
 
     public List<ProjectDto> findAll() {
-        return projectRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(projectRepository.findAll());
+    }
+
+    /** Keyset page of projects: ids greater than {@code after}, at most {@code limit} (null = no paging). */
+    public List<ProjectDto> findAll(Long after, Integer limit) {
+        if (after == null && limit == null) return findAll();
+        return toDtos(projectRepository.findPage(after, Paging.pageable(limit)));
+    }
+
+    /**
+     * Projects written at or after change version {@code since} or with a task written since then, plus
+     * {@code alsoIds} (projects that lost tasks); for GET /api/sync.
+     */
+    public List<ProjectDto> findChangedSince(long since, Collection<Long> alsoIds) {
+        List<Project> projects = new ArrayList<>(projectRepository.findChangedSince(since));
+        Set<Long> missing = new HashSet<>(alsoIds);
+        projects.forEach(p -> missing.remove(p.getId()));
+        if (!missing.isEmpty()) {
+            projects.addAll(projectRepository.findAllById(missing));
+            projects.sort(Comparator.comparing(Project::getId));
+        }
+        return toDtos(projects);
     }
 
     @Transactional
@@ -30,17 +72,61 @@ public class ProjectService {
         String name = request.getName() != null ? request.getName().trim() : "";
         String status = request.getStatus() != null && !request.getStatus().isBlank() ? request.getStatus().trim() : "Active";
         int progress = request.getProgress() != null ? Math.max(0, Math.min(100, request.getProgress())) : 0;
+        if (projectRepository.findByName(name).isPresent()) {
+            throw new AuthException("Project name already exists");
+        }
         Project project = new Project(name, status, progress);
         project = projectRepository.save(project);
+        nameCache.onProjectCreated(project.getName(), project.getId());
         return toDto(project);
     }
 
-    @Transactional
+    /** Deletes the project with its tasks and assignments in chunked bulk statements (no outer transaction). */
     public void delete(Long id) {
         if (!projectRepository.existsById(id)) {
             throw new NotFoundException("Project not found");
         }
-        projectRepository.deleteById(id);
+        // Members, and anyone sharing another project with them, may have seen the project's tasks.
+        Set<Long> affected = new HashSet<>();
+        for (Long member : membershipIndex.membersOf(id).keySet()) {
+            affected.add(member);
+            affected.addAll(membershipIndex.membersOfProjectsOf(member));
+        }
+        cascadeDeleter.deleteProject(id);
+        membershipIndex.onProjectDeleted(id);
+        nameCache.onProjectDeleted(id);
+        changeEventHub.resync(affected);
+    }
+
+    /**
+     * Maps projects with progress taken from the trigger-maintained task counters: completed tasks as a share of
+     * all tasks, read in one grouped query per chunk of {@value UserSummaryAssembler#CHUNK_SIZE} projects.
+     */
+    private List<ProjectDto> toDtos(List<Project> projects) {
+        if (projects.isEmpty()) return List.of();
+        List<Long> ids = projects.stream().map(Project::getId).toList();
+        Map<Long, long[]> counts = new HashMap<>(); // projectId -> {total, completed}
+        for (int from = 0; from < ids.size(); from += UserSummaryAssembler.CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + UserSummaryAssembler.CHUNK_SIZE));
+            for (Object[] row : taskStatusCountRepository.sumByProjectIdInGroupByStatus(chunk)) {
+                long[] c = counts.computeIfAbsent((Long) row[0], k -> new long[2]);
+                long n = ((Number) row[2]).longValue();
+                c[0] += n;
+                if (((Number) row[1]).shortValue() == TaskStatus.COMPLETED.getCode()) c[1] += n;
+            }
+        }
+        return projects.stream().map(p -> {
+            ProjectDto dto = toDto(p);
+            long[] c = counts.get(p.getId());
+            dto.setProgress(progress(c != null ? c[0] : 0, c != null ? c[1] : 0, p.getProgress()));
+            return dto;
+        }).collect(Collectors.toList());
+    }
+
+    /** Percentage of completed tasks, rounded down; a project without tasks keeps the progress it was created with. */
+    static int progress(long total, long completed, int storedProgress) {
+        if (total <= 0) return storedProgress;
+        return (int) (Math.max(0, Math.min(total, completed)) * 100 / total);
     }
 
     private ProjectDto toDto(Project p) {
@@ -0,0 +1,176 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.SyncAssignmentDto;
+import com.taker.auth.dto.SyncDeletedDto;
+import com.taker.auth.dto.SyncDto;
+import com.taker.auth.dto.TaskDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.SyncJdbcRepository;
+import com.taker.auth.repository.SyncJdbcRepository.Tombstone;
+import com.taker.auth.repository.TaskRepository;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.SecurityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Delta sync behind GET /api/sync. Rows carry the id of the transaction that last wrote them (change_version,
+ * see V6__change_versions_and_tombstones) and deletes leave tombstones. One call reads, in a single repeatable-read
+ * snapshot, the rows visible to the caller (task visibility as in {@link TaskVisibility}, users as in the user
+ * list) written at or after {@code since}, and returns the snapshot's oldest running transaction as the next
+ * version, so a transaction that commits after the read is picked up by the next call.
+ * <p>
+ * The answer is "reload" ({@code full}, no rows) when there is no usable version, when tombstones since then were
+ * purged, when the delta exceeds {@code app.sync.max-rows}, or when an assignment that decides the caller's
+ * visibility changed (tasks and users that were not written may have come into view). Tombstones carry ids only
+ * and are not filtered by visibility, since the rows are gone.
+ */
+@Service
+public class SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+    private final TaskRepository taskRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final SyncJdbcRepository syncJdbcRepository;
+    private final ProjectService projectService;
+    private final UserSummaryAssembler summaryAssembler;
+    private final ProjectMembershipIndex membershipIndex;
+    private final int maxRows;
+    private final Duration tombstoneRetention;
+
+    public SyncService(TaskRepository taskRepository, ProjectAssignmentRepository assignmentRepository,
+                       UserRepository userRepository, SyncJdbcRepository syncJdbcRepository,
+                       ProjectService projectService, UserSummaryAssembler summaryAssembler,
+                       ProjectMembershipIndex membershipIndex,
+                       @Value("${app.sync.max-rows:5000}") int maxRows,
+                       @Value("${app.sync.tombstone-retention-days:30}") int tombstoneRetentionDays) {
+        this.taskRepository = taskRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.userRepository = userRepository;
+        this.syncJdbcRepository = syncJdbcRepository;
+        this.projectService = projectService;
+        this.summaryAssembler = summaryAssembler;
+        this.membershipIndex = membershipIndex;
+        this.maxRows = Math.max(1, maxRows);
+        this.tombstoneRetention = Duration.ofDays(Math.max(1, tombstoneRetentionDays));
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncDto changesSince(Long since) {
+        String email = SecurityUtils.currentUserEmail();
+        User current = (email != null && !email.isBlank()) ? userRepository.findByEmail(email).orElse(null) : null;
+        TaskVisibility v = TaskVisibility.of(current);
+        long version = syncJdbcRepository.snapshotWatermark();
+        if (since == null || since <= 0 || since <= syncJdbcRepository.purgedThrough()) return full(version);
+
+        List<Tombstone> tombstones = syncJdbcRepository.findTombstonesSince(since, maxRows + 1);
+        List<Object[]> assignmentRows = assignmentRepository.findRowsChangedSince(since);
+        if (tombstones.size() > maxRows || assignmentRows.size() > maxRows) return full(version);
+        if (!v.scopeAll() && visibilityMoved(current.getId(), assignmentRows, tombstones)) return full(version);
+
+        List<TaskDto> tasks = taskRepository.findVisibleDtosChangedSince(v.userId(), v.scopeAll(), v.includeOwn(),
+                v.viaRole(), v.assigneeRoles(), since, PageRequest.of(0, maxRows + 1));
+        if (tasks.size() > maxRows) return full(version);
+        SyncDto dto = new SyncDto();
+        dto.setVersion(version);
+        dto.setTasks(tasks);
+
+        SyncDeletedDto deleted = dto.getDeleted();
+        Set<Long> projectsLosingTasks = new HashSet<>();
+        Set<Long> touchedUserIds = new HashSet<>(userRepository.findIdsChangedSince(since));
+        for (Tombstone t : tombstones) {
+            switch (t.entity()) {
+                case "task" -> {
+                    deleted.getTasks().add(t.entityId());
+                    if (t.projectId() != null) projectsLosingTasks.add(t.projectId());
+                    if (t.userId() != null) touchedUserIds.add(t.userId());
+                }
+                case "assignment" -> {
+                    deleted.getAssignments().add(t.entityId());
+                    if (t.userId() != null) touchedUserIds.add(t.userId());
+                }
+                case "project" -> deleted.getProjects().add(t.entityId());
+                case "user" -> deleted.getUsers().add(t.entityId());
+                default -> log.warn("Unknown tombstone entity {}", t.entity());
+            }
+        }
+        projectsLosingTasks.removeAll(deleted.getProjects());
+        touchedUserIds.removeAll(deleted.getUsers());
+
+        dto.setProjects(projectService.findChangedSince(since, projectsLosingTasks));
+        dto.setAssignments(assignmentRows.stream()
+                .map(r -> new SyncAssignmentDto((Long) r[0], (Long) r[1], (Long) r[2], ((ProjectRole) r[3]).name()))
+                .toList());
+        List<User> users = visibleUsers(current, touchedUserIds);
+        if (users.size() > maxRows) return full(version);
+        dto.setUsers(summaryAssembler.toSummaries(users));
+        return dto;
+    }
+
+    /**
+     * True if an assignment of the caller, or on one of the caller's projects, was written or deleted: who the
+     * caller sees depends on those rows, so rows written before {@code since} may have come into view.
+     */
+    private boolean visibilityMoved(Long userId, List<Object[]> assignmentRows, List<Tombstone> tombstones) {
+        Set<Long> myProjects = membershipIndex.projectsOf(userId).keySet();
+        for (Object[] r : assignmentRows) {
+            if (userId.equals(r[2]) || myProjects.contains((Long) r[1])) return true;
+        }
+        for (Tombstone t : tombstones) {
+            if (t.entity().equals("assignment") && (userId.equals(t.userId()) || myProjects.contains(t.projectId()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Loads the given users that the caller can see (rules of DataService.getAllUsersFiltered), position fetched. */
+    private List<User> visibleUsers(User current, Set<Long> ids) {
+        Role role = current != null ? current.getRole() : Role.ADMIN;
+        if (role == Role.TEAM_LEADER || role == Role.MEMBER) {
+            Set<Long> visible = role == Role.TEAM_LEADER
+                    ? membershipIndex.membersOfProjectsOf(current.getId(), ProjectRole.TEAM_LEADER)
+                    : membershipIndex.membersOfProjectsOf(current.getId());
+            visible.add(current.getId());
+            ids.retainAll(visible);
+        }
+        List<Long> sorted = ids.stream().sorted().toList();
+        List<User> users = new ArrayList<>(sorted.size());
+        for (int from = 0; from < sorted.size(); from += UserSummaryAssembler.CHUNK_SIZE) {
+            users.addAll(userRepository.findAllWithPositionByIdIn(
+                    sorted.subList(from, Math.min(sorted.size(), from + UserSummaryAssembler.CHUNK_SIZE))));
+        }
+        if (role == Role.MANAGER) users.removeIf(u -> u.getRole() == Role.ADMIN);
+        return users;
+    }
+
+    private static SyncDto full(long version) {
+        SyncDto dto = new SyncDto();
+        dto.setVersion(version);
+        dto.setFull(true);
+        return dto;
+    }
+
+    /** Drops tombstones older than {@code app.sync.tombstone-retention-days}; clients behind them get a reload. */
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron:0 45 3 * * *}")
+    public int purgeTombstones() {
+        int removed = syncJdbcRepository.purgeDeletedBefore(Instant.now().minus(tombstoneRetention));
+        log.info("Sync tombstone purge: {} removed", removed);
+        return removed;
+    }
+}
@@ -0,0 +1,96 @@
+package com.taker.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks task_status_counts against the tasks table and rebuilds it when they disagree. The triggers from
+ * V3__task_status_counters keep the counters exact, so drift means something bypassed them (a manual fix,
+ * a restore, triggers disabled during a load). The check is one grouped read on a consistent snapshot; the
+ * rebuild runs only on drift, with task writes blocked until it commits.
+ * Schedule: {@code app.task-counters.reconcile-cron} ("-" disables). Metrics: task.counters.drift (rows found
+ * wrong by the last run) and task.counters.reconcile (duration).
+ */
+@Component
+public class TaskCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterReconciler.class);
+
+    /** Drifted rows written to the log per run. */
+    static final int LOGGED_ROWS = 10;
+
+    private static final String ACTUAL = "select coalesce(assigned_to_id, 0) as user_id, coalesce(project_id, 0) as project_id, " +
+            "status, count(*) as task_count from tasks group by 1, 2, 3";
+
+    static final String DRIFT_SQL = "select coalesce(a.user_id, c.user_id), coalesce(a.project_id, c.project_id), " +
+            "coalesce(a.status, c.status), coalesce(a.task_count, 0), coalesce(c.task_count, 0), count(*) over () " +
+            "from (" + ACTUAL + ") a full join task_status_counts c " +
+            "on c.user_id = a.user_id and c.project_id = a.project_id and c.status = a.status " +
+            "where coalesce(a.task_count, 0) <> coalesce(c.task_count, 0) order by 1, 2, 3 limit " + LOGGED_ROWS;
+
+    /** Drifted counter row: the key, the count from tasks and the count the counter holds. */
+    public record Drift(long userId, long projectId, short status, long actual, long counted) {}
+
+    /** Outcome of one run; {@code driftRows} is the total, {@code sample} the first {@value #LOGGED_ROWS}. */
+    public record Result(long driftRows, List<Drift> sample, boolean rebuilt, long millis) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactions;
+    private final Timer timer;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public TaskCounterReconciler(JdbcTemplate jdbcTemplate, TransactionOperations transactions, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.timer = Timer.builder("task.counters.reconcile")
+                .description("Time to check (and, on drift, rebuild) the task status counters")
+                .register(meterRegistry);
+        Gauge.builder("task.counters.drift", lastDrift, AtomicLong::get)
+                .description("Task counter rows that disagreed with the tasks table at the last reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.task-counters.reconcile-cron:0 30 3 * * *}")
+    public void scheduled() {
+        reconcile();
+    }
+
+    public Result reconcile() {
+        long start = System.nanoTime();
+        long[] total = {0};
+        List<Drift> sample = jdbcTemplate.query(DRIFT_SQL, (rs, i) -> {
+            total[0] = rs.getLong(6);
+            return new Drift(rs.getLong(1), rs.getLong(2), rs.getShort(3), rs.getLong(4), rs.getLong(5));
+        });
+        lastDrift.set(total[0]);
+        boolean rebuilt = false;
+        if (total[0] > 0) {
+            log.warn("Task counters drifted on {} rows, rebuilding; first rows: {}", total[0], sample);
+            transactions.executeWithoutResult(status -> rebuild());
+            rebuilt = true;
+        }
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+        timer.record(took);
+        long millis = took.toMillis();
+        log.info("Task counter reconciliation: {} drifted rows, rebuilt {}, {} ms", total[0], rebuilt, millis);
+        return new Result(total[0], sample, rebuilt, millis);
+    }
+
+    /** Replaces every counter row from a single grouped scan of tasks, with task writes blocked meanwhile. */
+    private void rebuild() {
+        jdbcTemplate.execute("lock table tasks in share row exclusive mode");
+        jdbcTemplate.update("delete from task_status_counts");
+        jdbcTemplate.update("insert into task_status_counts (user_id, project_id, status, task_count) " + ACTUAL);
+    }
+}
@@ -1,29 +1,34 @@
 package com.taker.auth.service;
 
+import com.taker.auth.dto.BatchUpdateTaskStatusRequest;
 import com.taker.auth.dto.CreateTaskRequest;
+import com.taker.auth.dto.TaskBatchResult;
 import com.taker.auth.dto.TaskDto;
+import com.taker.auth.dto.TaskFilter;
 import com.taker.auth.dto.UpdateTaskStatusRequest;
-import com.taker.auth.entity.ProjectAssignment;
+import com.taker.auth.entity.Project;
 import com.taker.auth.entity.ProjectRole;
 import com.taker.auth.entity.Role;
 import com.taker.auth.entity.Task;
+import com.taker.auth.entity.TaskStatus;
 import com.taker.auth.entity.User;
 import com.taker.auth.exception.ForbiddenException;
 import com.taker.auth.exception.NotFoundException;
-import com.taker.auth.repository.ProjectAssignmentRepository;
 import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskJdbcRepository;
+import com.taker.auth.repository.TaskJdbcRepository.NewTaskRow;
 import com.taker.auth.repository.TaskRepository;
 import com.taker.auth.repository.UserRepository;
+import com.taker.auth.service.ChangeEventHub.TaskChange;
+import com.taker.auth.util.Paging;
 import com.taker.auth.util.SecurityUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,14 +36,19 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
-    private final ProjectAssignmentRepository assignmentRepository;
+    private final ProjectMembershipIndex membershipIndex;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ChangeEventHub changeEventHub;
 
     public TaskService(TaskRepository taskRepository, UserRepository userRepository,
-                       ProjectRepository projectRepository, ProjectAssignmentRepository assignmentRepository) {
+                       ProjectRepository projectRepository, ProjectMembershipIndex membershipIndex,
+                       TaskJdbcRepository taskJdbcRepository, ChangeEventHub changeEventHub) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
-        this.assignmentRepository = assignmentRepository;
+        this.membershipIndex = membershipIndex;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.changeEventHub = changeEventHub;
     }
 
     public List<TaskDto> findAll() {
@@ -79,6 +89,7 @@ public class TaskService {
             projectRepository.findById(req.getProjectId()).ifPresent(task::setProject);
         }
         task = taskRepository.save(task);
+        changeEventHub.tasksChanged(List.of(TaskChange.of("created", task, task.getStatus())));
         return toDto(task);
     }
 
@@ -92,6 +103,7 @@ public class TaskService {
         }
         task.setStatus(normalizeStatus(req.getStatus()));
         task = taskRepository.save(task);
+        changeEventHub.tasksChanged(List.of(TaskChange.of("updated", task, task.getStatus())));
         return toDto(task);
     }
 
@@ -103,27 +115,178 @@ public class TaskService {
         if (role == Role.ADMIN) return assignee.getRole() != Role.ADMIN;
         if (role == Role.MANAGER) {
             if (assignee.getRole() != Role.TEAM_LEADER && assignee.getRole() != Role.MEMBER) return false;
-            List<ProjectAssignment> myManagerAssignments = assignmentRepository.findByUserIdAndProjectRole(current.getId(), ProjectRole.MANAGER);
-            for (ProjectAssignment a : myManagerAssignments) {
-                boolean assigneeInProject = assignmentRepository.findByProjectId(a.getProject().getId()).stream()
-                    .anyMatch(pa -> pa.getUser().getId().equals(assignee.getId()));
-                if (assigneeInProject) return true;
-            }
-            return false;
+            return membershipIndex.sharesProject(current.getId(), assignee.getId(), ProjectRole.MANAGER);
         }
         if (role == Role.TEAM_LEADER) {
             if (assignee.getRole() != Role.MEMBER) return false;
-            List<ProjectAssignment> tlAssignments = assignmentRepository.findByUserIdAndProjectRole(current.getId(), ProjectRole.TEAM_LEADER);
-            for (ProjectAssignment a : tlAssignments) {
-                boolean assigneeInProject = assignmentRepository.findByProjectId(a.getProject().getId()).stream()
-                    .anyMatch(pa -> pa.getUser().getId().equals(assignee.getId()));
-                if (assigneeInProject) return true;
-            }
-            return false;
+            return membershipIndex.sharesProject(current.getId(), assignee.getId(), ProjectRole.TEAM_LEADER);
         }
         return false;
     }
 
+    /**
+     * Creates many tasks in one transaction. Users and projects are loaded in one query each, every item is checked
+     * against a single membership snapshot (same rules as status updates: you may create tasks for yourself and for
+     * people you manage), and the valid ones are inserted as a JDBC batch with pre-allocated ids.
+     * Returns one result per item, in request order.
+     */
+    @Transactional
+    public List<TaskBatchResult> createTasks(List<CreateTaskRequest> requests) {
+        List<CreateTaskRequest> items = requests != null ? requests : List.of();
+        User current = currentUserOrNull();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        for (CreateTaskRequest req : items) {
+            if (req == null) continue;
+            if (req.getAssignedToId() != null) userIds.add(req.getAssignedToId());
+            if (req.getProjectId() != null) projectIds.add(req.getProjectId());
+        }
+        Map<Long, User> users = userIds.isEmpty() ? Map.of()
+                : userRepository.findAllById(userIds).stream().collect(Collectors.toMap(User::getId, u -> u));
+        Map<Long, Project> projects = projectIds.isEmpty() ? Map.of()
+                : projectRepository.findAllById(projectIds).stream().collect(Collectors.toMap(Project::getId, p -> p));
+        Predicate<User> mayActFor = assigneeCheck(current);
+
+        TaskBatchResult[] results = new TaskBatchResult[items.size()];
+        List<Integer> accepted = new ArrayList<>();
+        List<Task> drafts = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateTaskRequest req = items.get(i);
+            if (req == null || req.getTitle() == null || req.getTitle().isBlank()) {
+                results[i] = TaskBatchResult.failed(i, "Title is required");
+                continue;
+            }
+            User assignTo = req.getAssignedToId() != null ? users.get(req.getAssignedToId()) : current;
+            if (assignTo == null) {
+                results[i] = TaskBatchResult.failed(i, req.getAssignedToId() != null ? "User not found" : "assignedToId is required");
+                continue;
+            }
+            if (!mayActFor.test(assignTo)) {
+                results[i] = TaskBatchResult.failed(i, "You cannot create tasks for this user");
+                continue;
+            }
+            Project project = null;
+            if (req.getProjectId() != null) {
+                project = projects.get(req.getProjectId());
+                if (project == null) {
+                    results[i] = TaskBatchResult.failed(i, "Project not found");
+                    continue;
+                }
+            }
+            LocalDate dueDate = null;
+            if (req.getDueDate() != null && !req.getDueDate().isBlank()) {
+                try {
+                    dueDate = LocalDate.parse(req.getDueDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+                } catch (Exception e) {
+                    results[i] = TaskBatchResult.failed(i, "Invalid dueDate (use yyyy-MM-dd)");
+                    continue;
+                }
+            }
+            Task task = new Task(req.getTitle().trim(), normalizeStatus(req.getStatus()), dueDate);
+            if (req.getDescription() != null && !req.getDescription().isBlank()) {
+                task.setDescription(req.getDescription().trim());
+            }
+            task.setAssignedTo(assignTo);
+            task.setProject(project);
+            accepted.add(i);
+            drafts.add(task);
+        }
+
+        List<Long> ids = taskJdbcRepository.allocateIds(drafts.size());
+        List<NewTaskRow> rows = new ArrayList<>(drafts.size());
+        for (int k = 0; k < drafts.size(); k++) {
+            Task task = drafts.get(k);
+            task.setId(ids.get(k));
+            rows.add(new NewTaskRow(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate(),
+                    task.getProject() != null ? task.getProject().getId() : null, task.getAssignedTo().getId()));
+            results[accepted.get(k)] = TaskBatchResult.ok(accepted.get(k), toDto(task));
+        }
+        taskJdbcRepository.insertAll(rows);
+        changeEventHub.tasksChanged(drafts.stream().map(t -> TaskChange.of("created", t, t.getStatus())).toList());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Updates the status of many tasks in one transaction: tasks are loaded in one query, authorized against a
+     * single membership snapshot and written as a JDBC batch. Returns one result per item, in request order.
+     */
+    @Transactional
+    public List<TaskBatchResult> updateStatuses(List<BatchUpdateTaskStatusRequest.Item> updates) {
+        List<BatchUpdateTaskStatusRequest.Item> items = updates != null ? updates : List.of();
+        Set<Long> taskIds = new HashSet<>();
+        for (BatchUpdateTaskStatusRequest.Item item : items) {
+            if (item != null && item.getId() != null) taskIds.add(item.getId());
+        }
+        Map<Long, Task> tasks = taskIds.isEmpty() ? Map.of()
+                : taskRepository.findAllWithAssigneeAndProjectByIdIn(taskIds).stream().collect(Collectors.toMap(Task::getId, t -> t));
+        Predicate<User> mayActFor = assigneeCheck(currentUserOrNull());
+
+        TaskBatchResult[] results = new TaskBatchResult[items.size()];
+        Map<Long, TaskStatus> newStatus = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchUpdateTaskStatusRequest.Item item = items.get(i);
+            if (item == null || item.getId() == null) {
+                results[i] = TaskBatchResult.failed(i, "id is required");
+                continue;
+            }
+            if (item.getStatus() == null || item.getStatus().isBlank()) {
+                results[i] = TaskBatchResult.failed(i, "Status is required");
+                continue;
+            }
+            Task task = tasks.get(item.getId());
+            if (task == null) {
+                results[i] = TaskBatchResult.failed(i, "Task not found");
+                continue;
+            }
+            if (task.getAssignedTo() != null && !mayActFor.test(task.getAssignedTo())) {
+                results[i] = TaskBatchResult.failed(i, "You cannot update this task's status");
+                continue;
+            }
+            TaskStatus status = normalizeStatus(item.getStatus());
+            // Same task listed twice: last one wins, as if the requests had been sent one by one.
+            newStatus.put(task.getId(), status);
+            TaskDto dto = toDto(task);
+            dto.setStatus(status.getValue());
+            results[i] = TaskBatchResult.ok(i, dto);
+        }
+        taskJdbcRepository.updateStatuses(newStatus);
+        List<TaskChange> changes = new ArrayList<>(newStatus.size());
+        newStatus.forEach((id, status) -> changes.add(TaskChange.of("updated", tasks.get(id), status)));
+        changeEventHub.tasksChanged(changes);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * The {@link #canUpdateTask} rules as a predicate over assignees, with the caller's team looked up once
+     * so a whole batch is judged against the same membership snapshot. No current user = allowed (local/dev mode).
+     */
+    private Predicate<User> assigneeCheck(User current) {
+        if (current == null) return assignee -> true;
+        Role role = current.getRole();
+        Set<Long> team = switch (role) {
+            case MANAGER -> membershipIndex.membersOfProjectsOf(current.getId(), ProjectRole.MANAGER);
+            case TEAM_LEADER -> membershipIndex.membersOfProjectsOf(current.getId(), ProjectRole.TEAM_LEADER);
+            default -> Set.of();
+        };
+        return assignee -> {
+            if (current.getId().equals(assignee.getId())) return true;
+            return switch (role) {
+                case ADMIN -> assignee.getRole() != Role.ADMIN;
+                case MANAGER -> (assignee.getRole() == Role.TEAM_LEADER || assignee.getRole() == Role.MEMBER)
+                        && team.contains(assignee.getId());
+                case TEAM_LEADER -> assignee.getRole() == Role.MEMBER && team.contains(assignee.getId());
+                default -> false;
+            };
+        };
+    }
+
+    private User currentUserOrNull() {
+        String email = SecurityUtils.currentUserEmail();
+        return (email != null && !email.isBlank())
+                ? userRepository.findByEmail(email.trim().toLowerCase()).orElse(null)
+                : null;
+    }
+
     @Transactional
     public void deleteTask(Long taskId) {
         Task task = taskRepository.findById(taskId).orElseThrow(() -> new NotFoundException("Task not found"));
@@ -132,16 +295,14 @@ public class TaskService {
             User current = userRepository.findByEmail(email.trim().toLowerCase()).orElse(null);
             if (current != null && !canUpdateTask(current, task)) throw new ForbiddenException("You cannot delete this task");
         }
+        changeEventHub.tasksChanged(List.of(TaskChange.of("deleted", task, task.getStatus())));
         taskRepository.deleteById(taskId);
     }
 
-    private static String normalizeStatus(String s) {
-        if (s == null || s.isBlank()) return "need_to_start";
-        String lower = s.trim().toLowerCase().replace(" ", "_");
-        if (lower.contains("ongoing") || "in_progress".equals(lower)) return "ongoing";
-        if (lower.contains("complete") || "done".equals(lower)) return "completed";
-        if (lower.contains("start") || "yet_to_start".equals(lower) || "todo".equals(lower)) return "need_to_start";
-        return lower;
+    /** Status from any client spelling; blank or unknown values start the task as need_to_start. */
+    static TaskStatus normalizeStatus(String s) {
+        TaskStatus status = TaskStatus.parse(s);
+        return status != null ? status : TaskStatus.NEED_TO_START;
     }
 
     @Transactional
@@ -149,7 +310,7 @@ public class TaskService {
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("User not found"));
         Task task = new Task();
         task.setTitle(taskTitle);
-        task.setStatus("need_to_start");
+        task.setStatus(TaskStatus.NEED_TO_START);
         task.setAssignedTo(user);
         if (dueDateStr != null && !dueDateStr.isBlank()) {
             try {
@@ -160,59 +321,48 @@ public class TaskService {
             projectRepository.findById(projectId).ifPresent(task::setProject);
         }
         task = taskRepository.save(task);
+        changeEventHub.tasksChanged(List.of(TaskChange.of("created", task, task.getStatus())));
         return toDto(task);
     }
 
     @Transactional(readOnly = true)
     public List<TaskDto> findTasksForCurrentUser() {
+        return findTasksForCurrentUser(TaskFilter.none(), null, null);
+    }
+
+    /**
+     * Tasks visible to the current user (role-based), filtered server-side and paged by id:
+     * pass the last id of the previous page as {@code after}; {@code limit} null = no paging.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDto> findTasksForCurrentUser(TaskFilter filter, Long after, Integer limit) {
+        TaskFilter f = filter != null ? filter : TaskFilter.none();
+        boolean unfiltered = f.getStatus() == null && f.getProjectId() == null && f.getAssigneeId() == null
+                && f.getDueFrom() == null && f.getDueTo() == null && after == null && limit == null;
         String email = SecurityUtils.currentUserEmail();
+        User current = (email != null && !email.isBlank()) ? userRepository.findByEmail(email).orElse(null) : null;
         // If there is no authenticated user in the security context,
         // fall back to returning all tasks so the UI still works in local/dev mode.
-        if (email == null || email.isBlank()) {
-            return taskRepository.findAll().stream().map(this::toDto).collect(Collectors.toList());
-        }
-        User current = userRepository.findByEmail(email).orElse(null);
-        if (current == null) {
+        if (current == null && unfiltered) {
             return taskRepository.findAll().stream().map(this::toDto).collect(Collectors.toList());
         }
 
-        Set<Long> visibleUserIds = new HashSet<>();
-        Role role = current.getRole();
-
-        if (role == Role.ADMIN) {
-            userRepository.findAll().stream().map(User::getId).forEach(visibleUserIds::add);
-        } else if (role == Role.MANAGER) {
-            List<ProjectAssignment> myAssignments = assignmentRepository.findByUserIdAndProjectRole(current.getId(), ProjectRole.MANAGER);
-            for (ProjectAssignment a : myAssignments) {
-                assignmentRepository.findByProjectId(a.getProject().getId()).stream()
-                    .map(ProjectAssignment::getUser)
-                    .filter(u -> u.getRole() != Role.ADMIN)
-                    .map(User::getId)
-                    .forEach(visibleUserIds::add);
-            }
-        } else if (role == Role.TEAM_LEADER) {
-            visibleUserIds.add(current.getId());
-            List<ProjectAssignment> tlAssignments = assignmentRepository.findByUserIdAndProjectRole(current.getId(), ProjectRole.TEAM_LEADER);
-            for (ProjectAssignment a : tlAssignments) {
-                assignmentRepository.findByProjectId(a.getProject().getId()).stream()
-                    .map(ProjectAssignment::getUser)
-                    .map(User::getId)
-                    .forEach(visibleUserIds::add);
-            }
-        } else {
-            visibleUserIds.add(current.getId());
+        TaskVisibility v = TaskVisibility.of(current);
+        TaskStatus status = null;
+        if (f.getStatus() != null && !f.getStatus().isBlank()) {
+            status = TaskStatus.parse(f.getStatus());
+            if (status == null) return List.of();
         }
-
-        if (visibleUserIds.isEmpty()) return List.of();
-        List<Task> tasks = taskRepository.findByAssignedToIdIn(new ArrayList<>(visibleUserIds));
-        return tasks.stream().map(this::toDto).collect(Collectors.toList());
+        return taskRepository.findVisibleDtos(v.userId(), v.scopeAll(), v.includeOwn(), v.viaRole(), v.assigneeRoles(),
+                after, status, f.getProjectId(), f.getAssigneeId(), f.getDueFrom(), f.getDueTo(),
+                Paging.pageable(limit));
     }
 
     private TaskDto toDto(Task t) {
         TaskDto dto = new TaskDto();
         dto.setId(t.getId());
         dto.setTitle(t.getTitle());
-        dto.setStatus(t.getStatus());
+        dto.setStatus(t.getStatus() != null ? t.getStatus().getValue() : null);
         if (t.getDueDate() != null) dto.setDueDate(t.getDueDate());
         if (t.getDescription() != null) dto.setDescription(t.getDescription());
         if (t.getAssignedTo() != null) {
@@ -0,0 +1,43 @@
+package com.taker.auth.service;
+
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.User;
+
+import java.util.List;
+
+/**
+ * Which tasks a user sees, as the parameters of {@code TaskRepository.VISIBLE}. Admin: all tasks. Manager: tasks
+ * of non-admin members of the projects they manage. Team leader: their own plus those of members of the projects
+ * they lead. Member: their own. No user (local/dev mode) is treated as admin.
+ */
+record TaskVisibility(Long userId, boolean scopeAll, boolean includeOwn, ProjectRole viaRole, List<Role> assigneeRoles) {
+
+    private static final List<Role> ALL_ROLES = List.of(Role.values());
+    private static final List<Role> NON_ADMIN_ROLES = List.of(Role.MANAGER, Role.TEAM_LEADER, Role.MEMBER);
+
+    static TaskVisibility of(User current) {
+        Role role = current != null ? current.getRole() : Role.ADMIN;
+        ProjectRole viaRole = switch (role) {
+            case MANAGER -> ProjectRole.MANAGER;
+            case TEAM_LEADER -> ProjectRole.TEAM_LEADER;
+            default -> null;
+        };
+        // Managers see non-admin members of the projects they manage (themselves included); admins' tasks stay hidden.
+        return new TaskVisibility(current != null ? current.getId() : null, role == Role.ADMIN,
+                role == Role.TEAM_LEADER || role == Role.MEMBER, viaRole,
+                role == Role.MANAGER ? NON_ADMIN_ROLES : ALL_ROLES);
+    }
+
+    /**
+     * Whether a task assigned to {@code assigneeId} is visible, decided from the membership index instead of the
+     * query; used to route change events. Tasks without an assignee are not in any list.
+     */
+    boolean covers(Long assigneeId, Role assigneeRole, ProjectMembershipIndex membershipIndex) {
+        if (assigneeId == null) return false;
+        if (scopeAll) return true;
+        if (includeOwn && assigneeId.equals(userId)) return true;
+        return viaRole != null && assigneeRoles.contains(assigneeRole)
+                && membershipIndex.sharesProject(userId, assigneeId, viaRole);
+    }
+}
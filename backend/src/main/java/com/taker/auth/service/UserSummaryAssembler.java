@@ -0,0 +1,140 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.UserSummaryDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Builds {@link UserSummaryDto}s for a whole list of users with a fixed number of set-based queries:
+ * one for current projects, one for manager/team leader names of those projects and one for completed-task counts
+ * (an indexed read of the task_status_counts counters), per chunk of {@value #CHUNK_SIZE} users to stay well
+ * under the Postgres bind-parameter limit.
+ * Callers should load users with their position fetched (see UserRepository.findAllWithPosition).
+ */
+@Component
+public class UserSummaryAssembler {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSummaryAssembler.class);
+
+    static final int CHUNK_SIZE = 1000;
+    private static final List<ProjectRole> LEAD_ROLES = List.of(ProjectRole.MANAGER, ProjectRole.TEAM_LEADER);
+
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final TaskStatusCountRepository taskStatusCountRepository;
+
+    public UserSummaryAssembler(ProjectAssignmentRepository assignmentRepository,
+                                TaskStatusCountRepository taskStatusCountRepository) {
+        this.assignmentRepository = assignmentRepository;
+        this.taskStatusCountRepository = taskStatusCountRepository;
+    }
+
+    public UserSummaryDto toSummary(User user) {
+        if (user == null) return null;
+        List<UserSummaryDto> result = toSummaries(List.of(user));
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /** Maps users in order; a user whose mapping fails is skipped so one bad row does not break the list. */
+    public List<UserSummaryDto> toSummaries(List<User> users) {
+        if (users == null || users.isEmpty()) return List.of();
+        List<UserSummaryDto> result = new ArrayList<>(users.size());
+        for (int from = 0; from < users.size(); from += CHUNK_SIZE) {
+            List<User> chunk = users.subList(from, Math.min(users.size(), from + CHUNK_SIZE));
+            appendChunk(chunk, result);
+        }
+        return result;
+    }
+
+    private void appendChunk(List<User> users, List<UserSummaryDto> out) {
+        Set<Long> userIds = new HashSet<>();
+        for (User u : users) {
+            if (u != null && u.getId() != null) userIds.add(u.getId());
+        }
+
+        // First assignment per user = current project (same rule as before: oldest assignment wins).
+        Map<Long, Long> currentProjectId = new HashMap<>();
+        Map<Long, String> projectNames = new HashMap<>();
+        Map<Long, Integer> completedCounts = new HashMap<>();
+        Map<Long, String> managerByProject = new HashMap<>();
+        Map<Long, String> teamLeaderByProject = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            try {
+                for (Object[] row : assignmentRepository.findProjectRowsByUserIds(userIds)) {
+                    Long userId = (Long) row[0];
+                    Long projectId = (Long) row[1];
+                    if (currentProjectId.putIfAbsent(userId, projectId) == null) {
+                        projectNames.put(projectId, (String) row[2]);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Could not load current projects: {}", e.getMessage());
+            }
+            if (!projectNames.isEmpty()) {
+                try {
+                    for (Object[] row : assignmentRepository.findMemberNamesByProjectIdsAndRoles(projectNames.keySet(), LEAD_ROLES)) {
+                        Long projectId = (Long) row[0];
+                        ProjectRole role = (ProjectRole) row[1];
+                        String name = (String) row[2];
+                        if (name == null) continue;
+                        if (role == ProjectRole.MANAGER) managerByProject.putIfAbsent(projectId, name);
+                        else teamLeaderByProject.putIfAbsent(projectId, name);
+                    }
+                } catch (Exception e) {
+                    log.warn("Could not load project managers/team leaders: {}", e.getMessage());
+                }
+            }
+            try {
+                for (Object[] row : taskStatusCountRepository.sumByUserIdInAndStatus(userIds, TaskStatus.COMPLETED.getCode())) {
+                    completedCounts.put((Long) row[0], ((Number) row[1]).intValue());
+                }
+            } catch (Exception e) {
+                log.warn("Could not load completed task counts: {}", e.getMessage());
+            }
+        }
+
+        for (User u : users) {
+            if (u == null) continue;
+            try {
+                UserSummaryDto dto = toBaseSummary(u);
+                Long projectId = currentProjectId.get(u.getId());
+                if (projectId != null) {
+                    dto.setCurrentProject(projectNames.get(projectId));
+                    dto.setManagerName(managerByProject.get(projectId));
+                    dto.setTeamLeaderName(teamLeaderByProject.get(projectId));
+                }
+                dto.setProjectsCompletedCount(completedCounts.getOrDefault(u.getId(), 0));
+                out.add(dto);
+            } catch (Exception e) {
+                log.warn("Skip user id={}: {}", u.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private UserSummaryDto toBaseSummary(User u) {
+        UserSummaryDto dto = new UserSummaryDto();
+        dto.setId(u.getId());
+        dto.setName(u.getFullName() != null ? u.getFullName() : "");
+        dto.setTitle(u.getTitle() != null ? u.getTitle() : "");
+        dto.setRole(u.getRole() != null ? u.getRole().name().toLowerCase() : "member");
+        try {
+            dto.setPosition(u.getPosition() != null ? u.getPosition().getName() : null);
+        } catch (Exception ignored) {
+            dto.setPosition(null);
+        }
+        dto.setTemporary(u.isTemporary());
+        dto.setEmail(u.getEmail() != null ? u.getEmail() : "");
+        dto.setLoginId(u.getLoginId());
+        dto.setPhotoUrl(u.getPhotoUrl());
+        dto.setAge(u.getAge());
+        dto.setSkills(u.getSkills());
+        return dto;
+    }
+}
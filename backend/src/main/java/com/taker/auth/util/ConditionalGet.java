@@ -0,0 +1,25 @@
+package com.taker.auth.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/** If-None-Match handling for GET endpoints whose ETag comes from {@code ETagService} (read before the body is built). */
+public final class ConditionalGet {
+
+    /** Clients may keep the response but must revalidate it (If-None-Match) before every use. */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {}
+
+    /** True if the request's If-None-Match matches {@code etag}; the response is then a bodiless 304. Null = no ETag. */
+    public static boolean notModified(WebRequest request, String etag) {
+        return etag != null && request.checkNotModified(etag);
+    }
+
+    /** 200 carrying {@code etag} (when not null) and {@link #REVALIDATE}. */
+    public static ResponseEntity.BodyBuilder ok(String etag) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        return etag != null ? ok.eTag(etag).cacheControl(REVALIDATE) : ok;
+    }
+}
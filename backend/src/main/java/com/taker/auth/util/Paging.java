@@ -0,0 +1,27 @@
+package com.taker.auth.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/** Keyset paging helpers shared by list endpoints (?limit=&after=). */
+public final class Paging {
+
+    /** Largest page a client may ask for; bigger limits are clamped. */
+    public static final int MAX_LIMIT = 500;
+
+    /** Response header carrying the cursor for the next page (the last id returned), set only when more rows may follow. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private Paging() {}
+
+    /** Clamps a requested limit to 1..MAX_LIMIT; null means unpaged. */
+    public static Integer clamp(Integer limit) {
+        if (limit == null) return null;
+        return Math.max(1, Math.min(MAX_LIMIT, limit));
+    }
+
+    public static Pageable pageable(Integer limit) {
+        Integer clamped = clamp(limit);
+        return clamped == null ? Pageable.unpaged() : PageRequest.of(0, clamped);
+    }
+}
@@ -0,0 +1,71 @@
+-- Schema as the JPA mappings define it. Databases created earlier by Hibernate (ddl-auto: update) are
+-- baselined at this version (spring.flyway.baseline-on-migrate), so this only runs on an empty database.
+
+create table positions (
+    id   bigserial    not null,
+    name varchar(255) not null,
+    constraint pk_positions primary key (id),
+    constraint uk_positions_name unique (name)
+);
+
+create table users (
+    id             bigserial    not null,
+    full_name      varchar(255) not null,
+    email          varchar(255) not null,
+    login_id       integer,
+    id_card_number varchar(255),
+    password       varchar(255) not null,
+    role           varchar(255) not null,
+    title          varchar(255),
+    position_id    bigint,
+    is_temporary   boolean,
+    photo_url      varchar(512),
+    age            integer,
+    skills         varchar(1000),
+    created_at     timestamp(6) with time zone,
+    pending_otp    varchar(255),
+    otp_expires_at timestamp(6) with time zone,
+    constraint pk_users primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_login_id unique (login_id),
+    constraint fk_users_position foreign key (position_id) references positions
+);
+
+create table projects (
+    id       bigserial    not null,
+    name     varchar(255) not null,
+    status   varchar(255) not null,
+    progress integer      not null,
+    constraint pk_projects primary key (id)
+);
+
+create table project_assignments (
+    id           bigserial    not null,
+    project_id   bigint       not null,
+    user_id      bigint       not null,
+    project_role varchar(255) not null check (project_role in ('MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')),
+    constraint pk_project_assignments primary key (id),
+    constraint fk_assignments_project foreign key (project_id) references projects,
+    constraint fk_assignments_user foreign key (user_id) references users
+);
+
+create table tasks (
+    id             bigserial    not null,
+    title          varchar(255) not null,
+    description    varchar(1000),
+    status         smallint     not null,
+    due_date       date,
+    project_id     bigint,
+    assigned_to_id bigint,
+    constraint pk_tasks primary key (id),
+    constraint fk_tasks_project foreign key (project_id) references projects,
+    constraint fk_tasks_assignee foreign key (assigned_to_id) references users
+);
+
+create table task_status_counts (
+    user_id    bigint   not null,
+    project_id bigint   not null,
+    status     smallint not null,
+    task_count bigint   not null,
+    constraint pk_task_status_counts primary key (user_id, project_id, status)
+);
@@ -0,0 +1,16 @@
+-- tasks.status was free text on databases created before the TaskStatus enum: rewrite it in place to the enum
+-- codes (0 need_to_start, 1 ongoing, 2 completed), folding every legacy spelling. No-op when already smallint.
+do $$
+begin
+  if exists (select 1 from information_schema.columns
+             where table_schema = current_schema() and table_name = 'tasks'
+               and column_name = 'status' and data_type <> 'smallint') then
+    alter table tasks alter column status drop default;
+    alter table tasks alter column status type smallint using (
+      case
+        when lower(status) like '%ongoing%' or lower(replace(trim(status), ' ', '_')) = 'in_progress' then 1
+        when lower(status) like '%complete%' or lower(trim(status)) = 'done' then 2
+        else 0
+      end);
+  end if;
+end $$;
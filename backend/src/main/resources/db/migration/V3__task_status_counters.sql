@@ -0,0 +1,50 @@
+-- Per (assignee, project, status) task counters, 0 = no assignee / no project. Statement-level triggers with
+-- transition tables keep them in step with every write to tasks (JPA, JDBC batches, bulk deletes), one upsert
+-- per statement rather than per row.
+create table if not exists task_status_counts (
+    user_id    bigint   not null,
+    project_id bigint   not null,
+    status     smallint not null,
+    task_count bigint   not null,
+    constraint pk_task_status_counts primary key (user_id, project_id, status)
+);
+
+create or replace function task_status_counts_apply() returns trigger language plpgsql as $$
+begin
+  if tg_op in ('UPDATE', 'DELETE') then
+    update task_status_counts c set task_count = c.task_count - d.n
+    from (select coalesce(assigned_to_id, 0) as u, coalesce(project_id, 0) as p, status as s, count(*) as n
+          from old_rows group by 1, 2, 3) d
+    where c.user_id = d.u and c.project_id = d.p and c.status = d.s;
+  end if;
+  if tg_op in ('INSERT', 'UPDATE') then
+    insert into task_status_counts (user_id, project_id, status, task_count)
+    select coalesce(assigned_to_id, 0), coalesce(project_id, 0), status, count(*)
+    from new_rows group by 1, 2, 3 order by 1, 2, 3
+    on conflict (user_id, project_id, status)
+    do update set task_count = task_status_counts.task_count + excluded.task_count;
+  end if;
+  return null;
+end $$;
+
+-- Blocks task writes until the triggers are in place, so the backfill neither misses nor double-counts a row.
+lock table tasks in share row exclusive mode;
+
+do $$
+begin
+  if not exists (select 1 from pg_trigger where tgname = 'tasks_status_counts_ins') then
+    create trigger tasks_status_counts_ins after insert on tasks
+      referencing new table as new_rows for each statement execute function task_status_counts_apply();
+    create trigger tasks_status_counts_upd after update on tasks
+      referencing old table as old_rows new table as new_rows
+      for each statement execute function task_status_counts_apply();
+    create trigger tasks_status_counts_del after delete on tasks
+      referencing old table as old_rows for each statement execute function task_status_counts_apply();
+  end if;
+end $$;
+
+insert into task_status_counts (user_id, project_id, status, task_count)
+select coalesce(assigned_to_id, 0), coalesce(project_id, 0), status, count(*)
+from tasks
+where not exists (select 1 from task_status_counts)
+group by 1, 2, 3;
@@ -0,0 +1,30 @@
+-- Indexes behind the hot finders in ProjectAssignmentRepository and TaskRepository, plus uniqueness the
+-- application already assumes. "if not exists": databases baselined from ddl-auto may already have some of them.
+
+-- project_assignments: "projects where user X has role R"; "members of project P" uses the unique key below.
+create index if not exists idx_assignments_user_role on project_assignments (user_id, project_role, project_id);
+
+-- tasks: keyset paging is "order by id", so each filter column is paired with id.
+create index if not exists idx_tasks_assignee_id on tasks (assigned_to_id, id);
+create index if not exists idx_tasks_project_id on tasks (project_id, id);
+create index if not exists idx_tasks_status_id on tasks (status, id);
+create index if not exists idx_tasks_assignee_status on tasks (assigned_to_id, status);
+create index if not exists idx_tasks_due_date on tasks (due_date);
+
+create index if not exists idx_task_status_counts_user on task_status_counts (user_id, status);
+create index if not exists idx_task_status_counts_project on task_status_counts (project_id, status);
+
+-- A user is assigned to a project once (DataService.assignUserToProject already refuses a second assignment).
+-- Drop duplicates left by earlier seeding first (oldest row wins); the key's index replaces idx_assignments_project_user.
+delete from project_assignments a
+using project_assignments b
+where a.project_id = b.project_id and a.user_id = b.user_id and a.id > b.id;
+
+do $$
+begin
+  if not exists (select 1 from pg_constraint where conname = 'uk_assignments_project_user') then
+    alter table project_assignments add constraint uk_assignments_project_user unique (project_id, user_id);
+  end if;
+end $$;
+
+drop index if exists idx_assignments_project_user;
@@ -0,0 +1,12 @@
+-- Projects are looked up by name (ProjectRepository.findByName, ProjectNameCache), so names must be unique.
+-- Older rows sharing a name keep it on the oldest project; the others get " (<id>)" appended.
+update projects p
+set name = p.name || ' (' || p.id || ')'
+where exists (select 1 from projects q where q.name = p.name and q.id < p.id);
+
+do $$
+begin
+  if not exists (select 1 from pg_constraint where conname = 'uk_projects_name') then
+    alter table projects add constraint uk_projects_name unique (name);
+  end if;
+end $$;
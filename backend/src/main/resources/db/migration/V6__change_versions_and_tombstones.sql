@@ -0,0 +1,63 @@
+-- Change versions for GET /api/sync. Every insert/update of tasks, projects, project_assignments and users stamps
+-- the row with the writing transaction's id (txid_current(), 64-bit, never wraps), and every delete leaves a
+-- tombstone stamped the same way. Triggers and defaults cover JPA, JDBC batches and bulk deletes alike.
+-- Rows that predate this migration get 0, i.e. "older than any sync".
+
+create or replace function sync_change_version() returns trigger language plpgsql as $$
+begin
+  new.change_version := txid_current();
+  return new;
+end $$;
+
+create table if not exists sync_tombstones (
+    id             bigserial    primary key,
+    entity         varchar(16)  not null,
+    entity_id      bigint       not null,
+    project_id     bigint,
+    user_id        bigint,
+    change_version bigint       not null default txid_current(),
+    deleted_at     timestamptz  not null default now()
+);
+create index if not exists idx_sync_tombstones_version on sync_tombstones (change_version);
+
+-- Highest tombstone version removed by the retention purge; a client syncing from at or below it must reload.
+create table if not exists sync_state (
+    id             smallint primary key default 1 check (id = 1),
+    purged_through bigint   not null
+);
+insert into sync_state (id, purged_through) values (1, 0) on conflict (id) do nothing;
+
+create or replace function sync_tombstones_record() returns trigger language plpgsql as $$
+begin
+  if tg_table_name = 'tasks' then
+    insert into sync_tombstones (entity, entity_id, project_id, user_id)
+    select 'task', id, project_id, assigned_to_id from old_rows;
+  elsif tg_table_name = 'project_assignments' then
+    insert into sync_tombstones (entity, entity_id, project_id, user_id)
+    select 'assignment', id, project_id, user_id from old_rows;
+  elsif tg_table_name = 'projects' then
+    insert into sync_tombstones (entity, entity_id, project_id)
+    select 'project', id, id from old_rows;
+  elsif tg_table_name = 'users' then
+    insert into sync_tombstones (entity, entity_id, user_id)
+    select 'user', id, id from old_rows;
+  end if;
+  return null;
+end $$;
+
+do $$
+declare
+  t text;
+begin
+  foreach t in array array['tasks', 'projects', 'project_assignments', 'users'] loop
+    execute format('alter table %I add column if not exists change_version bigint not null default 0', t);
+    execute format('alter table %I alter column change_version set default txid_current()', t);
+    execute format('create index if not exists %I on %I (change_version)', 'idx_' || t || '_change_version', t);
+    if not exists (select 1 from pg_trigger where tgname = t || '_change_version') then
+      execute format('create trigger %I before update on %I for each row when (old is distinct from new) ' ||
+                     'execute function sync_change_version()', t || '_change_version', t);
+      execute format('create trigger %I after delete on %I referencing old table as old_rows ' ||
+                     'for each statement execute function sync_tombstones_record()', t || '_tombstones', t);
+    end if;
+  end loop;
+end $$;
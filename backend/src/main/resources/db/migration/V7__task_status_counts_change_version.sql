@@ -0,0 +1,15 @@
+-- Change versions on the task counters, for the ETags of GET /api/tasks, /api/projects and /api/users/{id}.
+-- Every write to a task rewrites the counter rows of its (assignee, project, status) bucket (V3 triggers), so a
+-- counter row's version moves whenever any of its tasks is inserted, updated or deleted: a list's validator can be
+-- read from the few counter rows in scope instead of from the tasks. Same stamping as V6.
+
+alter table task_status_counts add column if not exists change_version bigint not null default 0;
+alter table task_status_counts alter column change_version set default txid_current();
+
+do $$
+begin
+  if not exists (select 1 from pg_trigger where tgname = 'task_status_counts_change_version') then
+    create trigger task_status_counts_change_version before update on task_status_counts for each row
+      when (old is distinct from new) execute function sync_change_version();
+  end if;
+end $$;
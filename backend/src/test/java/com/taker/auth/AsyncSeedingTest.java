@@ -0,0 +1,87 @@
+package com.taker.auth;
+
+import com.taker.auth.dto.TaskDto;
+import com.taker.auth.dto.UserSummaryDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.service.DataService;
+import com.taker.auth.service.ProjectMembershipIndex;
+import com.taker.auth.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test: with app.seed.mode=async the demo data is written after startup, bypassing the membership
+ * index's hooks; the index must still end up with the seeded memberships.
+ * Requires DB to be running (e.g. PostgreSQL as in application.yml). Run with: gradlew test -PincludeIntegration
+ */
+@SpringBootTest(properties = "app.seed.mode=async")
+@Tag("integration")
+class AsyncSeedingTest {
+
+    private static final String MEMBER = "member@taker.com";
+    private static final String LEADER = "leader@taker.com";
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ProjectMembershipIndex membershipIndex;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    DataService dataService;
+
+    @AfterEach
+    void clearSecurity() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /** Waits for the seeding thread: the member's project shows up in the index once it has finished. */
+    private Map<Long, ProjectRole> awaitProjectsOf(User user) throws InterruptedException {
+        Map<Long, ProjectRole> projects = Map.of();
+        for (int i = 0; i < 120 && projects.isEmpty(); i++) {
+            Thread.sleep(500);
+            projects = membershipIndex.projectsOf(user.getId());
+        }
+        return projects;
+    }
+
+    private User awaitUser(String email) throws InterruptedException {
+        for (int i = 0; i < 120; i++) {
+            var user = userRepository.findByEmail(email);
+            if (user.isPresent()) return user.get();
+            Thread.sleep(500);
+        }
+        throw new AssertionError(email + " was not seeded");
+    }
+
+    @Test
+    @DisplayName("seeded member sees their project's tasks and team after async seeding")
+    void seededMemberSeesTheirProject() throws Exception {
+        User member = awaitUser(MEMBER);
+        Map<Long, ProjectRole> projects = awaitProjectsOf(member);
+        assertThat(projects).as("member's projects in the membership index").isNotEmpty();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(MEMBER, null, List.of()));
+
+        List<TaskDto> tasks = taskService.findTasksForCurrentUser();
+        List<UserSummaryDto> team = dataService.getAllUsersFiltered(null, null, null, null);
+
+        assertThat(tasks).isNotEmpty().allSatisfy(t -> assertThat(projects).containsKey(t.getProjectId()));
+        assertThat(team).extracting(UserSummaryDto::getEmail).contains(MEMBER, LEADER);
+    }
+}
@@ -0,0 +1,111 @@
+package com.taker.auth.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(pool.getConnection()).thenAnswer(inv -> mock(Connection.class));
+    }
+
+    @Nested
+    @DisplayName("permits")
+    class PermitTests {
+        @Test
+        void closeReturnsPermitOnlyOnce() throws Exception {
+            ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 2, 1000);
+
+            Connection c = limiter.getConnection();
+            assertThat(limiter.active()).isEqualTo(1);
+            c.close();
+            c.close();
+
+            assertThat(limiter.active()).isZero();
+        }
+
+        @Test
+        void delegatesCallsToPooledConnection() throws Exception {
+            Connection pooled = mock(Connection.class);
+            when(pool.getConnection()).thenReturn(pooled);
+            ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 1000);
+
+            try (Connection c = limiter.getConnection()) {
+                c.setAutoCommit(false);
+            }
+
+            verify(pooled).setAutoCommit(false);
+            verify(pooled, times(1)).close();
+        }
+
+        @Test
+        void waiterProceedsWhenConnectionIsClosed() throws Exception {
+            ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 5000);
+            Connection held = limiter.getConnection();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return limiter.getConnection();
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor);
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (limiter.waiting() == 0 && System.nanoTime() < deadline) Thread.onSpinWait();
+                assertThat(waiter).isNotDone();
+
+                held.close();
+
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+                assertThat(limiter.active()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class FailureTests {
+        @Test
+        void timesOutWhenAllPermitsAreTaken() throws Exception {
+            ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 20);
+            limiter.getConnection();
+
+            assertThatThrownBy(limiter::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        }
+
+        @Test
+        void releasesPermitWhenPoolFails() throws Exception {
+            when(pool.getConnection()).thenThrow(new SQLException("down"));
+            ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 20);
+
+            assertThatThrownBy(limiter::getConnection).hasMessage("down");
+            assertThat(limiter.active()).isZero();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.taker.auth.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    @Nested
+    @DisplayName("lazyNonCriticalBeans")
+    class LazyBeansTests {
+        @Test
+        void marksListedBeansAndTheirFactoryMethodsLazy() {
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.registerBeanDefinition("openApiConfig", new RootBeanDefinition(OpenApiConfig.class));
+            RootBeanDefinition openApi = new RootBeanDefinition();
+            openApi.setFactoryBeanName("openApiConfig");
+            openApi.setFactoryMethodName("customOpenAPI");
+            beanFactory.registerBeanDefinition("customOpenAPI", openApi);
+            beanFactory.registerBeanDefinition("dataLoader", new RootBeanDefinition(DataLoader.class));
+
+            StartupConfig.lazyNonCriticalBeans(new MockEnvironment()
+                            .withProperty("app.startup.lazy-beans", "com.taker.auth.config.OpenApiConfig,org.springdoc."))
+                    .postProcessBeanFactory(beanFactory);
+
+            assertThat(beanFactory.getBeanDefinition("openApiConfig").isLazyInit()).isTrue();
+            assertThat(beanFactory.getBeanDefinition("customOpenAPI").isLazyInit()).isTrue();
+            assertThat(beanFactory.getBeanDefinition("dataLoader").isLazyInit()).isFalse();
+        }
+
+        @Test
+        void leavesEverythingEagerByDefault() {
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.registerBeanDefinition("openApiConfig", new RootBeanDefinition(OpenApiConfig.class));
+
+            StartupConfig.lazyNonCriticalBeans(new MockEnvironment()).postProcessBeanFactory(beanFactory);
+
+            assertThat(beanFactory.getBeanDefinition("openApiConfig").isLazyInit()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taker.auth.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupDbLoggerTest {
+
+    @Nested
+    @DisplayName("startup timeline")
+    class TimelineTests {
+        @Test
+        void summarizesPhasesAndSlowestBeans() throws Exception {
+            BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+            startup.start("spring.boot.application.starting").end();
+            StartupStep refresh = startup.start(StartupDbLogger.REFRESH_STEP);
+            startup.start("spring.beans.smart-initialize").end();
+            startup.start("spring.beans.smart-initialize").end();
+            StartupStep slow = startup.start(StartupDbLogger.BEAN_STEP).tag("beanName", "entityManagerFactory");
+            Thread.sleep(20);
+            slow.end();
+            startup.start(StartupDbLogger.BEAN_STEP).tag("beanName", "taskService").end();
+            refresh.end();
+            List<StartupTimeline.TimelineEvent> events = startup.getBufferedTimeline().getEvents();
+
+            String phases = StartupDbLogger.phases(events);
+            String beans = StartupDbLogger.slowestBeans(events, 1);
+
+            assertThat(phases).contains("starting ", "context.refresh ").doesNotContain("instantiate");
+            assertThat(phases.split("beans.smart-initialize")).hasSize(2);
+            assertThat(beans).startsWith("entityManagerFactory ").doesNotContain("taskService");
+        }
+    }
+}
@@ -184,6 +184,22 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("handleServiceBusy")
+    class ServiceBusyTests {
+        @Test
+        void returns503WithRetryAfter() {
+            when(request.getRequestURI()).thenReturn("/api/auth/login");
+            ServiceBusyException ex = new ServiceBusyException("Server is busy. Please try again in a moment.", 1);
+
+            ResponseEntity<ApiResponse<Void>> res = handler.handleServiceBusy(ex, request);
+
+            assertThat(res.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(res.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+            assertThat(res.getBody().getErrorCode()).isEqualTo(ErrorCode.SERVICE_BUSY.getCode());
+        }
+    }
+
     @Nested
     @DisplayName("handleGeneric")
     class GenericExceptionTests {
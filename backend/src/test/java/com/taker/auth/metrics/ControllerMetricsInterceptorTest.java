@@ -0,0 +1,163 @@
+package com.taker.auth.metrics;
+
+import com.taker.auth.controller.HealthController;
+import com.taker.auth.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ControllerMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountInspector queryCounter;
+    private ControllerMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryCounter = new QueryCountInspector(3);
+        interceptor = new ControllerMetricsInterceptor(meterRegistry, queryCounter,
+                new QueryBudgets(30, List.of("HealthController.db=4"), false));
+    }
+
+    @Nested
+    @DisplayName("request metrics")
+    class RequestMetricsTests {
+        @Test
+        void recordsLatencyAndStatementsPerControllerMethod() throws Exception {
+            HandlerMethod handler = new HandlerMethod(new HealthController(null), HealthController.class.getMethod("db"));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/health/db");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, handler);
+            queryCounter.inspect("select 1");
+            queryCounter.inspect("select 2");
+            interceptor.afterCompletion(request, response, handler, null);
+
+            Timer timer = meterRegistry.find(ControllerMetricsInterceptor.TIMER)
+                    .tags("controller", "HealthController", "method", "db", "status", "200").timer();
+            DistributionSummary statements = meterRegistry.find(ControllerMetricsInterceptor.STATEMENTS)
+                    .tags("controller", "HealthController", "method", "db").summary();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(statements).isNotNull();
+            assertThat(statements.totalAmount()).isEqualTo(2.0);
+        }
+
+        @Test
+        void ignoresHandlersOutsideTheControllerPackage() {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, new Object());
+            interceptor.afterCompletion(request, response, new Object(), null);
+
+            assertThat(meterRegistry.find(ControllerMetricsInterceptor.TIMER).timer()).isNull();
+        }
+
+        @Test
+        void closesTheScopeWhenAsyncHandlingStarts() throws Exception {
+            HandlerMethod handler = new HandlerMethod(new HealthController(null), HealthController.class.getMethod("db"));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/health/db");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, handler);
+            queryCounter.inspect("select 1");
+            interceptor.afterConcurrentHandlingStarted(request, response, handler);
+            queryCounter.inspect("select 2");
+
+            assertThat(queryCounter.count()).isZero();
+            request.setDispatcherType(DispatcherType.ASYNC);
+            interceptor.preHandle(request, response, handler);
+            interceptor.afterCompletion(request, response, handler, null);
+
+            Timer timer = meterRegistry.find(ControllerMetricsInterceptor.TIMER).timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(meterRegistry.find(ControllerMetricsInterceptor.STATEMENTS).summary().totalAmount()).isEqualTo(1.0);
+        }
+
+        @Test
+        void countsOverBudgetAndRepeatedStatements() throws Exception {
+            HandlerMethod handler = new HandlerMethod(new HealthController(null), HealthController.class.getMethod("db"));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/health/db");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, handler);
+            for (int id = 1; id <= 5; id++) {
+                queryCounter.inspect("select * from tasks where project_id=" + id);
+            }
+            interceptor.afterCompletion(request, response, handler, null);
+
+            assertThat(meterRegistry.counter(ControllerMetricsInterceptor.ISSUES,
+                    "endpoint", "HealthController.db", "kind", "budget").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.counter(ControllerMetricsInterceptor.ISSUES,
+                    "endpoint", "HealthController.db", "kind", "repeated").count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("strict mode")
+    class StrictTests {
+        @Test
+        void failsTheStatementPastTheBudget() throws Exception {
+            interceptor = new ControllerMetricsInterceptor(meterRegistry, queryCounter,
+                    new QueryBudgets(30, List.of("HealthController.db=2"), true));
+            HandlerMethod handler = new HandlerMethod(new HealthController(null), HealthController.class.getMethod("db"));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/health/db");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, handler);
+            queryCounter.inspect("select 1");
+            queryCounter.inspect("select 2");
+
+            assertThatThrownBy(() -> queryCounter.inspect("select 3")).isInstanceOf(QueryBudgetExceededException.class);
+            interceptor.afterCompletion(request, response, handler, null);
+            assertThat(queryCounter.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("QueryCountInspector")
+    class InspectorTests {
+        @Test
+        void countsOnlyInsideAStartedScope() {
+            assertThat(queryCounter.inspect("select 1")).isEqualTo("select 1");
+            queryCounter.start();
+            queryCounter.inspect("select 1");
+            assertThat(queryCounter.stop().statements()).isEqualTo(1);
+            queryCounter.inspect("select 1");
+            assertThat(queryCounter.count()).isZero();
+        }
+
+        @Test
+        void treatsStatementsDifferingOnlyInLiteralsAsOneShape() {
+            queryCounter.start();
+            queryCounter.inspect("select * from users where id = 1");
+            queryCounter.inspect("select *  from users\n where id = 2");
+            queryCounter.inspect("select * from users where id in (?, ?, ?)");
+            queryCounter.inspect("select * from users where email = 'a@b.com'");
+
+            QueryCountInspector.QueryStats stats = queryCounter.stop();
+
+            assertThat(stats.statements()).isEqualTo(4);
+            assertThat(stats.topRepeats()).isEqualTo(2);
+            assertThat(stats.topShape()).isEqualTo("select * from users where id = ?");
+            assertThat(QueryCountInspector.shapeOf("select * from users where id in (?, ?, ?)"))
+                    .isEqualTo(QueryCountInspector.shapeOf("select * from users where id in (?)"));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.taker.auth.security;
+
+import com.taker.auth.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) encoder.destroy();
+    }
+
+    @Nested
+    @DisplayName("encode / matches")
+    class DelegateTests {
+        @Test
+        void runsDelegateOnPoolAndRecordsLatency() {
+            encoder = new BoundedPasswordEncoder(new PlainEncoder(null), 1, 4, 5000, meterRegistry);
+
+            assertThat(encoder.encode("pw")).isEqualTo("{plain}pw");
+            assertThat(encoder.matches("pw", "{plain}pw")).isTrue();
+            assertThat(meterRegistry.get("auth.hash").tag("op", "encode").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.hash").tag("op", "matches").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("saturation")
+    class SaturationTests {
+        @Test
+        void rejectsFastWhenQueueIsFull() throws Exception {
+            encoder = new BoundedPasswordEncoder(new PlainEncoder(release), 1, 1, 5000, meterRegistry);
+            CompletableFuture.runAsync(() -> encoder.encode("busy"));
+            CompletableFuture.runAsync(() -> encoder.encode("queued"));
+            waitUntilQueued(1);
+
+            assertThatThrownBy(() -> encoder.encode("rejected")).isInstanceOf(ServiceBusyException.class);
+            assertThat(meterRegistry.get("auth.hash.rejected").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        void givesUpAfterWaitTimeout() {
+            encoder = new BoundedPasswordEncoder(new PlainEncoder(release), 1, 4, 50, meterRegistry);
+
+            assertThatThrownBy(() -> encoder.matches("pw", "{plain}pw")).isInstanceOf(ServiceBusyException.class);
+        }
+    }
+
+    private void waitUntilQueued(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.queueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.queueDepth()).isEqualTo(depth);
+    }
+
+    /** Stand-in for BCrypt that can be held on a latch to simulate slow hashing. */
+    private static class PlainEncoder implements PasswordEncoder {
+        private final CountDownLatch gate;
+
+        PlainEncoder(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public String encode(CharSequence raw) {
+            await();
+            return "{plain}" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            await();
+            return ("{plain}" + raw).equals(encoded);
+        }
+
+        private void await() {
+            if (gate == null) return;
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
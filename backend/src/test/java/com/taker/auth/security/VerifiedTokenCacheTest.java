@@ -0,0 +1,83 @@
+package com.taker.auth.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtService, meterRegistry, true, 2);
+    }
+
+    @Nested
+    @DisplayName("verify")
+    class VerifyTests {
+        @Test
+        void verifiesOnceThenServesFromCache() {
+            long exp = System.currentTimeMillis() + 60_000;
+            when(jwtService.verify("t1")).thenReturn(new VerifiedToken("a@b.com", "member", exp));
+
+            assertThat(cache.verify("t1").getEmail()).isEqualTo("a@b.com");
+            assertThat(cache.verify("t1").getRole()).isEqualTo("member");
+
+            verify(jwtService, times(1)).verify("t1");
+            assertThat(meterRegistry.counter("jwt.cache.hits").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.counter("jwt.cache.misses").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        void doesNotServeExpiredEntries() {
+            when(jwtService.verify("old")).thenReturn(new VerifiedToken("a@b.com", "member", System.currentTimeMillis() - 1));
+
+            cache.verify("old");
+            cache.verify("old");
+
+            verify(jwtService, times(2)).verify("old");
+        }
+
+        @Test
+        void evictsLeastRecentlyUsedWhenFull() {
+            long exp = System.currentTimeMillis() + 60_000;
+            when(jwtService.verify("t1")).thenReturn(new VerifiedToken("1@b.com", "member", exp));
+            when(jwtService.verify("t2")).thenReturn(new VerifiedToken("2@b.com", "member", exp));
+            when(jwtService.verify("t3")).thenReturn(new VerifiedToken("3@b.com", "member", exp));
+
+            cache.verify("t1");
+            cache.verify("t2");
+            cache.verify("t3");
+            cache.verify("t1");
+
+            assertThat(cache.size()).isEqualTo(2);
+            verify(jwtService, times(2)).verify("t1");
+        }
+
+        @Test
+        void propagatesInvalidTokenAndCachesNothing() {
+            when(jwtService.verify("bad")).thenThrow(new IllegalArgumentException("bad token"));
+
+            assertThatThrownBy(() -> cache.verify("bad")).isInstanceOf(IllegalArgumentException.class);
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
@@ -16,16 +16,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +47,12 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private LoginIdAllocator loginIdAllocator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private AuthService authService;
 
@@ -51,6 +63,23 @@ class AuthServiceTest {
         testUser = new User("Test User", "test@example.com", null, "$2a$10$hashed", Role.MEMBER);
         testUser.setId(1L);
         testUser.setLoginId(10001);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraint));
+    }
+
+    private static SignUpRequest signUpRequest() {
+        SignUpRequest req = new SignUpRequest();
+        req.setFullName("New User");
+        req.setEmail("new@example.com");
+        req.setPassword("Password@1");
+        req.setConfirmPassword("Password@1");
+        req.setRole("member");
+        return req;
     }
 
     @Nested
@@ -220,7 +249,7 @@ class AuthServiceTest {
             savedUser.setId(2L);
             savedUser.setLoginId(12345);
             when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-            when(userRepository.findByLoginId(anyInt())).thenReturn(Optional.empty());
+            when(loginIdAllocator.next()).thenReturn(12345);
             when(passwordEncoder.encode("weak")).thenReturn("encoded");
             when(userRepository.save(any(User.class))).thenAnswer(inv -> { User u = inv.getArgument(0); savedUser.setLoginId(u.getLoginId()); return savedUser; });
 
@@ -263,7 +292,7 @@ class AuthServiceTest {
             savedUser.setId(2L);
 
             when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-            when(userRepository.findByLoginId(anyInt())).thenReturn(Optional.empty());
+            when(loginIdAllocator.next()).thenReturn(12345);
             when(passwordEncoder.encode("Password@1")).thenReturn("encoded");
             when(userRepository.save(any(User.class))).thenAnswer(inv -> { User u = inv.getArgument(0); savedUser.setLoginId(u.getLoginId()); return savedUser; });
 
@@ -276,5 +305,32 @@ class AuthServiceTest {
             assertThat(response.getFullName()).isEqualTo("New User");
             verify(userRepository).save(any(User.class));
         }
+
+        @Test
+        void retriesOnceWithNewLoginIdWhenAnotherInstanceTookIt() {
+            when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
+            when(passwordEncoder.encode("Password@1")).thenReturn("encoded");
+            when(loginIdAllocator.next()).thenReturn(12345, 23456);
+            when(userRepository.save(any(User.class))).thenThrow(uniqueViolation("uk_users_login_id"));
+
+            assertThatThrownBy(() -> authService.signUp(signUpRequest()))
+                    .isInstanceOf(AuthException.class)
+                    .hasMessageContaining("Try again");
+            verify(loginIdAllocator, times(2)).next();
+            verify(userRepository, times(2)).save(any(User.class));
+        }
+
+        @Test
+        void doesNotRetryDuplicateEmail() {
+            when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
+            when(passwordEncoder.encode("Password@1")).thenReturn("encoded");
+            when(loginIdAllocator.next()).thenReturn(12345);
+            when(userRepository.save(any(User.class))).thenThrow(uniqueViolation("uk_users_email"));
+
+            assertThatThrownBy(() -> authService.signUp(signUpRequest()))
+                    .isInstanceOf(AuthException.class)
+                    .hasMessageContaining("already registered");
+            verify(userRepository, times(1)).save(any(User.class));
+        }
     }
 }
@@ -0,0 +1,94 @@
+package com.taker.auth.service;
+
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskJdbcRepository;
+import com.taker.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CascadeDeleterTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private CascadeDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        deleter = new CascadeDeleter(taskJdbcRepository, assignmentRepository, userRepository, projectRepository,
+                TransactionOperations.withoutTransaction(), 100);
+    }
+
+    @Nested
+    @DisplayName("deleteUser")
+    class DeleteUserTests {
+        @Test
+        void deletesTasksInChunksUntilAShortChunkThenAssignmentsAndUser() {
+            when(taskJdbcRepository.deleteChunkByAssignee(1L, 100)).thenReturn(100, 100, 30, 0);
+
+            long tasks = deleter.deleteUser(1L, null);
+
+            assertThat(tasks).isEqualTo(230);
+            InOrder order = inOrder(taskJdbcRepository, assignmentRepository, userRepository);
+            order.verify(taskJdbcRepository, times(4)).deleteChunkByAssignee(1L, 100);
+            order.verify(assignmentRepository).bulkDeleteByUserId(1L);
+            order.verify(userRepository).bulkDeleteById(1L);
+        }
+
+        @Test
+        void reassignsTasksWithOneUpdateInsteadOfDeleting() {
+            when(taskJdbcRepository.reassign(1L, 5L)).thenReturn(4200);
+
+            long tasks = deleter.deleteUser(1L, 5L);
+
+            assertThat(tasks).isEqualTo(4200);
+            verify(taskJdbcRepository, never()).deleteChunkByAssignee(anyLong(), anyInt());
+            verify(assignmentRepository).bulkDeleteByUserId(1L);
+            verify(userRepository).bulkDeleteById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteProject")
+    class DeleteProjectTests {
+        @Test
+        void deletesTasksInChunksThenAssignmentsAndProject() {
+            when(taskJdbcRepository.deleteChunkByProject(7L, 100)).thenReturn(100, 0, 0);
+
+            long tasks = deleter.deleteProject(7L);
+
+            assertThat(tasks).isEqualTo(100);
+            InOrder order = inOrder(taskJdbcRepository, assignmentRepository, projectRepository);
+            order.verify(taskJdbcRepository, times(3)).deleteChunkByProject(7L, 100);
+            order.verify(assignmentRepository).bulkDeleteByProjectId(7L);
+            order.verify(projectRepository).bulkDeleteById(7L);
+        }
+    }
+}
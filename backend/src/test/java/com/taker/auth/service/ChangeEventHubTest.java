@@ -0,0 +1,138 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.ChangeEventDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.exception.ServiceBusyException;
+import com.taker.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeEventHubTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    private SimpleMeterRegistry registry;
+    private ChangeEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        hub = new ChangeEventHub(userRepository, membershipIndex, registry, 4, 3, 60_000, 25_000);
+    }
+
+    private static User user(long id, Role role) {
+        User u = new User("User " + id, "u" + id + "@example.com", null, "hash", role);
+        u.setId(id);
+        return u;
+    }
+
+    private static ChangeEventHub.TaskChange change(long taskId, long assigneeId, Role assigneeRole) {
+        ChangeEventDto event = new ChangeEventDto("task", "updated");
+        event.setId(taskId);
+        event.setUserId(assigneeId);
+        event.setStatus(TaskStatus.ONGOING.getValue());
+        return new ChangeEventHub.TaskChange(event, assigneeId, assigneeRole);
+    }
+
+    private static List<String> queued(ChangeEventHub.Subscriber s) {
+        return s.buffer.stream().map(e -> e.getType() + (e.getId() != null ? ":" + e.getId() : "")).toList();
+    }
+
+    @Nested
+    @DisplayName("tasksChanged")
+    class TasksChangedTests {
+        @Test
+        void routesEachChangeOnlyToSubscribersWhoSeeTheAssignee() {
+            ChangeEventHub.Subscriber admin = hub.register(user(1L, Role.ADMIN));
+            ChangeEventHub.Subscriber manager = hub.register(user(4L, Role.MANAGER));
+            ChangeEventHub.Subscriber member = hub.register(user(7L, Role.MEMBER));
+            when(membershipIndex.sharesProject(4L, 7L, ProjectRole.MANAGER)).thenReturn(true);
+            when(membershipIndex.sharesProject(4L, 8L, ProjectRole.MANAGER)).thenReturn(false);
+
+            hub.tasksChanged(List.of(change(40L, 7L, Role.MEMBER), change(41L, 8L, Role.MEMBER)));
+
+            assertThat(queued(admin)).containsExactly("ready", "task:40", "task:41");
+            assertThat(queued(manager)).containsExactly("ready", "task:40");
+            assertThat(queued(member)).containsExactly("ready", "task:40");
+        }
+
+        @Test
+        void overflowingBufferIsReplacedByOneResync() {
+            ChangeEventHub.Subscriber member = hub.register(user(7L, Role.MEMBER));
+
+            hub.tasksChanged(List.of(change(40L, 7L, Role.MEMBER), change(41L, 7L, Role.MEMBER),
+                    change(42L, 7L, Role.MEMBER), change(43L, 7L, Role.MEMBER)));
+            hub.tasksChanged(List.of(change(44L, 7L, Role.MEMBER)));
+
+            assertThat(queued(member)).containsExactly("resync", "task:44");
+            assertThat(registry.get("events.resyncs").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("assignments and resync")
+    class AssignmentTests {
+        @Test
+        void assignmentGoesToAdminsAndProjectMembers() {
+            ChangeEventHub.Subscriber admin = hub.register(user(1L, Role.ADMIN));
+            ChangeEventHub.Subscriber member = hub.register(user(7L, Role.MEMBER));
+            ChangeEventHub.Subscriber outsider = hub.register(user(8L, Role.MEMBER));
+            when(membershipIndex.membersOf(5L)).thenReturn(Map.of(7L, ProjectRole.TEAM_MEMBER, 12L, ProjectRole.TEAM_MEMBER));
+
+            hub.assigned(5L, 12L, ProjectRole.TEAM_MEMBER);
+
+            assertThat(queued(admin)).containsExactly("ready", "assignment");
+            assertThat(queued(member)).containsExactly("ready", "assignment");
+            assertThat(queued(outsider)).containsExactly("ready");
+        }
+
+        @Test
+        void resyncReachesAdminsAndTheGivenUsers() {
+            ChangeEventHub.Subscriber admin = hub.register(user(1L, Role.ADMIN));
+            ChangeEventHub.Subscriber member = hub.register(user(7L, Role.MEMBER));
+            ChangeEventHub.Subscriber outsider = hub.register(user(8L, Role.MEMBER));
+
+            hub.resync(Set.of(7L));
+
+            assertThat(queued(admin)).containsExactly("ready", "resync");
+            assertThat(queued(member)).containsExactly("ready", "resync");
+            assertThat(queued(outsider)).containsExactly("ready");
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe")
+    class SubscribeTests {
+        @Test
+        void refusesStreamsOverTheLimit() {
+            hub.register(user(1L, Role.ADMIN));
+            hub.register(user(2L, Role.ADMIN));
+            hub.register(user(3L, Role.ADMIN));
+
+            assertThatThrownBy(() -> hub.subscribe()).isInstanceOf(ServiceBusyException.class);
+            assertThat(hub.subscriberCount()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.DashboardDto;
+import com.taker.auth.dto.DashboardProjectDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.TaskRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatusCountRepository taskStatusCountRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    private DashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DashboardService(taskRepository, taskStatusCountRepository, userRepository, membershipIndex, 60_000);
+    }
+
+    private User user(long id, String email, Role role) {
+        User u = new User("User " + id, email, null, "hash", role);
+        u.setId(id);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(u));
+        return u;
+    }
+
+    @Nested
+    @DisplayName("projects")
+    class ProjectsTests {
+        @Test
+        void groupsStatusRowsPerProjectWithOverdueAndNoProjectLast() {
+            List<DashboardProjectDto> projects = DashboardService.projects(List.of(
+                    new Object[]{0L, null, (short) 0, 3L},
+                    new Object[]{5L, "Beta", TaskStatus.COMPLETED.getCode(), 4L},
+                    new Object[]{5L, "Beta", TaskStatus.ONGOING.getCode(), 2L},
+                    new Object[]{1L, "Alpha", TaskStatus.NEED_TO_START.getCode(), 1L}),
+                    List.<Object[]>of(new Object[]{5L, 1L}, new Object[]{9L, 7L}));
+
+            assertThat(projects).extracting(DashboardProjectDto::getProjectId).containsExactly(1L, 5L, null);
+            DashboardProjectDto beta = projects.get(1);
+            assertThat(beta.getStatusCounts()).containsEntry("completed", 4L).containsEntry("ongoing", 2L);
+            assertThat(beta.getTotal()).isEqualTo(6);
+            assertThat(beta.getOverdue()).isEqualTo(1);
+        }
+
+        @Test
+        void readsOverdueFromTheStatusRowsOfTheVisibleQuery() {
+            List<DashboardProjectDto> projects = DashboardService.projects(List.of(
+                    new Object[]{1L, "Alpha", TaskStatus.ONGOING, 3L, 2L},
+                    new Object[]{1L, "Alpha", TaskStatus.COMPLETED, 1L, 0L}), List.of());
+
+            assertThat(projects.get(0).getOverdue()).isEqualTo(2);
+            assertThat(projects.get(0).getStatusCounts()).containsOnlyKeys("ongoing", "completed");
+        }
+    }
+
+    @Nested
+    @DisplayName("forCurrentUser")
+    class ForCurrentUserTests {
+        @Test
+        void adminScopeReadsCountersAndIsCached() {
+            user(1L, "admin@example.com", Role.ADMIN);
+            when(userRepository.countByRole()).thenReturn(List.of(
+                    new Object[]{Role.ADMIN, 1L}, new Object[]{Role.MEMBER, 40L}));
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("admin@example.com");
+
+                DashboardDto first = service.forCurrentUser();
+                DashboardDto second = service.forCurrentUser();
+
+                assertThat(second).isSameAs(first);
+                assertThat(first.getScope()).isEqualTo("all");
+                assertThat(first.getUsersByRole()).containsEntry("admin", 1L).containsEntry("member", 40L);
+                verify(taskStatusCountRepository, times(1)).sumAssignedByProjectAndStatus();
+                verify(taskRepository, never()).countVisibleByProjectAndStatus(any(), anyBoolean(), anyBoolean(),
+                        any(), anyCollection(), any(), any());
+            }
+        }
+
+        @Test
+        void managerScopeUsesVisibleTaskQueryAndHidesAdmins() {
+            user(4L, "manager@example.com", Role.MANAGER);
+            when(taskRepository.countVisibleByProjectAndStatus(eq(4L), eq(false), eq(false), eq(ProjectRole.MANAGER),
+                    anyCollection(), any(), eq(TaskStatus.COMPLETED)))
+                    .thenReturn(List.<Object[]>of(new Object[]{1L, "Alpha", TaskStatus.ONGOING, 3L, 1L}));
+            when(userRepository.countByRole()).thenReturn(List.of(
+                    new Object[]{Role.ADMIN, 1L}, new Object[]{Role.MANAGER, 2L}));
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("manager@example.com");
+
+                DashboardDto dashboard = service.forCurrentUser();
+
+                assertThat(dashboard.getScope()).isEqualTo("manager:4");
+                assertThat(dashboard.getOverdue()).isEqualTo(1);
+                assertThat(dashboard.getUsersByRole()).containsOnlyKeys("manager");
+                verify(taskStatusCountRepository, never()).sumAssignedByProjectAndStatus();
+            }
+        }
+
+        @Test
+        void memberCountsOnlyUsersSharingAProject() {
+            user(7L, "member@example.com", Role.MEMBER);
+            when(membershipIndex.membersOfProjectsOf(7L)).thenReturn(new HashSet<>(Set.of(8L, 9L)));
+            when(userRepository.countByRoleAndIdIn(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{Role.MEMBER, 3L}));
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("member@example.com");
+
+                DashboardDto dashboard = service.forCurrentUser();
+
+                assertThat(dashboard.getUsersByRole()).containsExactly(java.util.Map.entry("member", 3L));
+                verify(userRepository).countByRoleAndIdIn(Mockito.argThat(ids -> ids.containsAll(List.of(7L, 8L, 9L))));
+                verify(userRepository, never()).countByRole();
+            }
+        }
+    }
+}
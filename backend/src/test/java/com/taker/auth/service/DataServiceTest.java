@@ -4,13 +4,17 @@ import com.taker.auth.dto.AssignRoleRequest;
 import com.taker.auth.dto.CreateUserRequest;
 import com.taker.auth.dto.UserSummaryDto;
 import com.taker.auth.entity.Position;
+import com.taker.auth.entity.Project;
+import com.taker.auth.entity.ProjectAssignment;
+import com.taker.auth.entity.ProjectRole;
 import com.taker.auth.entity.Role;
 import com.taker.auth.entity.User;
 import com.taker.auth.exception.AuthException;
+import com.taker.auth.exception.NotFoundException;
 import com.taker.auth.repository.PositionRepository;
 import com.taker.auth.repository.ProjectAssignmentRepository;
 import com.taker.auth.repository.ProjectRepository;
-import com.taker.auth.repository.TaskRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
 import com.taker.auth.repository.UserRepository;
 import com.taker.auth.util.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +22,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -32,6 +35,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyShort;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -54,22 +60,36 @@ class DataServiceTest {
     private ProjectAssignmentRepository assignmentRepository;
 
     @Mock
-    private TaskRepository taskRepository;
+    private CascadeDeleter cascadeDeleter;
+
+    @Mock
+    private ProjectNameCache projectNameCache;
+
+    @Mock
+    private TaskStatusCountRepository taskStatusCountRepository;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @InjectMocks
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    @Mock
+    private ChangeEventHub changeEventHub;
+
     private DataService dataService;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
+        dataService = new DataService(userRepository, positionRepository, projectRepository, assignmentRepository,
+                passwordEncoder, new UserSummaryAssembler(assignmentRepository, taskStatusCountRepository), membershipIndex,
+                cascadeDeleter, projectNameCache, changeEventHub);
         testUser = new User("Test User", "test@example.com", null, "encoded", Role.MEMBER);
         testUser.setId(1L);
         testUser.setTitle("Developer");
-        lenient().when(taskRepository.countByAssignedToIdAndStatus(any(Long.class), anyString())).thenReturn(0L);
+        lenient().when(taskStatusCountRepository.sumByUserIdInAndStatus(anyCollection(), anyShort())).thenReturn(List.of());
         lenient().when(assignmentRepository.findByUserId(any(Long.class))).thenReturn(List.of());
     }
 
@@ -80,7 +100,7 @@ class DataServiceTest {
         void returnsMappedUserSummaries() {
             User u2 = new User("Other", "other@example.com", null, "hash", Role.ADMIN);
             u2.setId(2L);
-            when(userRepository.findAll()).thenReturn(List.of(testUser, u2));
+            when(userRepository.findAllWithPosition()).thenReturn(List.of(testUser, u2));
 
             List<UserSummaryDto> result = dataService.getAllUsers();
 
@@ -95,7 +115,7 @@ class DataServiceTest {
 
         @Test
         void returnsEmptyListWhenNoUsers() {
-            when(userRepository.findAll()).thenReturn(List.of());
+            when(userRepository.findAllWithPosition()).thenReturn(List.of());
             assertThat(dataService.getAllUsers()).isEmpty();
         }
     }
@@ -110,6 +130,29 @@ class DataServiceTest {
                 assertThat(dataService.getTeamLeaderAssignedProjects()).isEmpty();
             }
         }
+
+        @Test
+        void returnsProjectIdsOncePerProjectInAssignmentOrder() {
+            User leader = new User("Leader", "leader@example.com", null, "hash", Role.TEAM_LEADER);
+            leader.setId(2L);
+            Project alpha = new Project("Alpha", "Active", 0);
+            alpha.setId(10L);
+            Project beta = new Project("Beta", "Active", 0);
+            beta.setId(20L);
+            when(userRepository.findByEmail("leader@example.com")).thenReturn(Optional.of(leader));
+            when(assignmentRepository.findByUserIdAndProjectRole(2L, ProjectRole.TEAM_LEADER)).thenReturn(List.of(
+                    new ProjectAssignment(beta, leader, ProjectRole.TEAM_LEADER),
+                    new ProjectAssignment(alpha, leader, ProjectRole.TEAM_LEADER),
+                    new ProjectAssignment(beta, leader, ProjectRole.TEAM_LEADER)));
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("leader@example.com");
+
+                assertThat(dataService.getTeamLeaderAssignedProjectIds()).containsExactly(
+                        java.util.Map.entry(20L, "Beta"), java.util.Map.entry(10L, "Alpha"));
+                assertThat(dataService.getTeamLeaderTeamMembers()).containsOnlyKeys("Beta", "Alpha");
+                verify(projectRepository, never()).findAll();
+            }
+        }
     }
 
     @Nested
@@ -257,4 +300,65 @@ class DataServiceTest {
             verify(userRepository).save(argThat(u -> u.getPosition() != null && "Developer".equals(u.getPosition().getName())));
         }
     }
+
+    @Nested
+    @DisplayName("kickUser")
+    class KickUserTests {
+        private User admin;
+
+        @BeforeEach
+        void setUpAdmin() {
+            admin = new User("Admin", "admin@example.com", null, "hash", Role.ADMIN);
+            admin.setId(9L);
+            when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(admin));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        }
+
+        @Test
+        void deletesThroughCascadeDeleterAndUpdatesIndex() {
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("admin@example.com");
+
+                dataService.kickUser(1L);
+
+                verify(cascadeDeleter).deleteUser(1L, null);
+                verify(membershipIndex).onUserRemoved(1L);
+                verify(changeEventHub).resync(argThat(ids -> ids.contains(1L)));
+            }
+        }
+
+        @Test
+        void reassignsTasksToExistingUser() {
+            when(userRepository.existsById(5L)).thenReturn(true);
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("admin@example.com");
+
+                dataService.kickUser(1L, 5L);
+
+                verify(cascadeDeleter).deleteUser(1L, 5L);
+            }
+        }
+
+        @Test
+        void rejectsReassignToTheRemovedUser() {
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("admin@example.com");
+
+                assertThatThrownBy(() -> dataService.kickUser(1L, 1L)).isInstanceOf(AuthException.class);
+                verify(cascadeDeleter, never()).deleteUser(anyLong(), any());
+            }
+        }
+
+        @Test
+        void rejectsReassignToUnknownUser() {
+            when(userRepository.existsById(5L)).thenReturn(false);
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("admin@example.com");
+
+                assertThatThrownBy(() -> dataService.kickUser(1L, 5L)).isInstanceOf(NotFoundException.class);
+                verify(cascadeDeleter, never()).deleteUser(anyLong(), any());
+                verify(membershipIndex, never()).onUserRemoved(anyLong());
+            }
+        }
+    }
 }
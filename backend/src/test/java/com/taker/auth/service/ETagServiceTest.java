@@ -0,0 +1,146 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.TaskFilter;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.Paging;
+import com.taker.auth.util.SecurityUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ETagServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskStatusCountRepository taskStatusCountRepository;
+
+    @InjectMocks
+    private ETagService service;
+
+    private static List<Object[]> row(Object... values) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(values);
+        return rows;
+    }
+
+    private String tasksAs(String email, TaskFilter filter, Long after, Integer limit) {
+        try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+            security.when(SecurityUtils::currentUserEmail).thenReturn(email);
+            return service.tasks(filter, after, limit);
+        }
+    }
+
+    @Nested
+    @DisplayName("entity tags")
+    class EntityTests {
+        @Test
+        void tagListsCountsAndVersionSumsInBase36() {
+            when(projectRepository.findListVersion()).thenReturn(row(3L, 1295L, 6L, 36L));
+
+            assertThat(service.projects(null, null)).isEqualTo("projects-3.zz.6.10");
+        }
+
+        @Test
+        void projectPageTagReadsOnlyThatPage() {
+            when(projectRepository.findPageVersion(100L, Paging.MAX_LIMIT)).thenReturn(row(2L, 10L, 5L, 20L));
+
+            assertThat(service.projects(100L, 10_000)).isEqualTo("projects-2.a.5.k");
+            verify(projectRepository, never()).findListVersion();
+        }
+
+        @Test
+        void tagChangesWhenAnyVersionMoves() {
+            when(assignmentRepository.findTeamVersion(5L)).thenReturn(row(900L, 2L, 1800L))
+                    .thenReturn(row(900L, 2L, 1801L));
+
+            assertThat(service.projectTeam(5L)).isNotEqualTo(service.projectTeam(5L));
+        }
+
+        @Test
+        void missingEntityHasNoTag() {
+            when(userRepository.findSummaryVersion(99L)).thenReturn(List.of());
+
+            assertThat(service.user(99L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("tasks")
+    class TaskTests {
+        @Test
+        void memberTagCoversTheirVisibleBucketsWithFilters() {
+            User member = new User("User 7", "member@example.com", null, "hash", Role.MEMBER);
+            member.setId(7L);
+            when(userRepository.findByEmail("member@example.com")).thenReturn(Optional.of(member));
+            when(taskStatusCountRepository.findVisibleVersion(eq(7L), eq(false), eq(true), eq(null), anyCollection(),
+                    eq(false), eq(TaskStatus.ONGOING.getCode()), eq(5L), eq(null))).thenReturn(row(2L, 40L, 14L, 18L));
+
+            String tag = tasksAs("member@example.com",
+                    new TaskFilter("ongoing", 5L, null, LocalDate.of(2026, 1, 1), null), null, 100);
+
+            assertThat(tag).isEqualTo("tasks-2.14.e.i");
+        }
+
+        @Test
+        void teamLeaderTagUsesTheirProjects() {
+            User lead = new User("User 4", "lead@example.com", null, "hash", Role.TEAM_LEADER);
+            lead.setId(4L);
+            when(userRepository.findByEmail("lead@example.com")).thenReturn(Optional.of(lead));
+            when(taskStatusCountRepository.findVisibleVersion(eq(4L), eq(false), eq(true), eq(ProjectRole.TEAM_LEADER),
+                    anyCollection(), eq(false), eq(null), eq(null), eq(null))).thenReturn(row(0L, 0L, 0L, 0L));
+
+            assertThat(tasksAs("lead@example.com", TaskFilter.none(), null, null)).isEqualTo("tasks-0.0.0.0");
+        }
+
+        @Test
+        void unauthenticatedFullListIncludesUnassignedTasks() {
+            when(taskStatusCountRepository.findVisibleVersion(eq(null), eq(true), eq(false), eq(null), anyCollection(),
+                    eq(true), eq(null), eq(null), eq(null))).thenReturn(row(1L, 1L, 0L, 0L));
+
+            assertThat(tasksAs(null, TaskFilter.none(), null, null)).isEqualTo("tasks-1.1.0.0");
+        }
+
+        @Test
+        void unknownStatusHasNoTagAndRunsNoQuery() {
+            assertThat(tasksAs(null, new TaskFilter("later", null, null, null, null), null, null)).isNull();
+            verify(taskStatusCountRepository, never()).findVisibleVersion(any(), anyBoolean(), anyBoolean(), any(),
+                    anyCollection(), anyBoolean(), any(), any(), any());
+        }
+    }
+}
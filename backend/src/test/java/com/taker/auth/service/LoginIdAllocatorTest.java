@@ -0,0 +1,135 @@
+package com.taker.auth.service;
+
+import com.taker.auth.exception.AuthException;
+import com.taker.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginIdAllocatorTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new LoginIdAllocator(userRepository, new SimpleMeterRegistry(), new Random(42));
+    }
+
+    @Nested
+    @DisplayName("next")
+    class NextTests {
+        @Test
+        void skipsTakenIdsAndQueriesOncePerBatch() {
+            when(userRepository.findAllLoginIds()).thenReturn(List.of(10000, 10001, 99999));
+
+            Set<Integer> ids = new HashSet<>();
+            for (int i = 0; i < LoginIdAllocator.BATCH_SIZE; i++) ids.add(allocator.next());
+
+            assertThat(ids).hasSize(LoginIdAllocator.BATCH_SIZE).doesNotContain(10000, 10001, 99999)
+                    .allMatch(id -> id >= LoginIdAllocator.MIN_ID && id <= LoginIdAllocator.MAX_ID);
+            verify(userRepository, times(1)).findAllLoginIds();
+            verify(userRepository, never()).findByLoginId(any());
+        }
+
+        @Test
+        void reportsRemainingIds() {
+            when(userRepository.findAllLoginIds()).thenReturn(List.of(10000, 10001));
+            assertThat(allocator.remaining()).isEqualTo(-1);
+
+            allocator.next();
+            allocator.next();
+
+            assertThat(allocator.remaining()).isEqualTo(90000 - 2 - 2);
+        }
+
+        @Test
+        void neverRepeatsAcrossRefillsEvenIfNotYetSaved() {
+            when(userRepository.findAllLoginIds()).thenReturn(List.of());
+
+            Set<Integer> ids = new HashSet<>();
+            for (int i = 0; i < LoginIdAllocator.BATCH_SIZE * 3; i++) ids.add(allocator.next());
+
+            assertThat(ids).hasSize(LoginIdAllocator.BATCH_SIZE * 3);
+        }
+
+        @Test
+        void isCollisionFreeUnderConcurrency() throws Exception {
+            when(userRepository.findAllLoginIds()).thenReturn(List.of());
+            Set<Integer> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < 2000; i++) pool.submit(() -> ids.add(allocator.next()));
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(ids).hasSize(2000);
+        }
+
+        @Test
+        void throwsWhenSpaceIsExhausted() {
+            List<Integer> all = new ArrayList<>();
+            for (int id = LoginIdAllocator.MIN_ID; id <= LoginIdAllocator.MAX_ID; id++) all.add(id);
+            when(userRepository.findAllLoginIds()).thenReturn(all);
+
+            assertThatThrownBy(() -> allocator.next()).isInstanceOf(AuthException.class);
+            assertThat(allocator.remaining()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("transactions")
+    class TransactionTests {
+        private void complete(int status) {
+            List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            syncs.forEach(s -> s.afterCompletion(status));
+        }
+
+        @Test
+        void releasesIdWhenTransactionRollsBack() {
+            when(userRepository.findAllLoginIds()).thenReturn(List.of());
+            TransactionSynchronizationManager.initSynchronization();
+            allocator.next();
+            assertThat(allocator.pendingCount()).isEqualTo(1);
+
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(allocator.pendingCount()).isZero();
+        }
+
+        @Test
+        void keepsIdReservedWhenTransactionCommits() {
+            when(userRepository.findAllLoginIds()).thenReturn(List.of());
+            TransactionSynchronizationManager.initSynchronization();
+            allocator.next();
+
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertThat(allocator.pendingCount()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.taker.auth.service;
+
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMembershipIndexTest {
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    private ProjectMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectMembershipIndex(assignmentRepository, new SimpleMeterRegistry());
+        // Project 10: manager 1, leader 2, members 3, 4. Project 20: manager 1, member 5.
+        when(assignmentRepository.findAllMembershipRows()).thenReturn(List.of(
+                new Object[]{10L, 1L, ProjectRole.MANAGER},
+                new Object[]{10L, 2L, ProjectRole.TEAM_LEADER},
+                new Object[]{10L, 3L, ProjectRole.TEAM_MEMBER},
+                new Object[]{10L, 4L, ProjectRole.TEAM_MEMBER},
+                new Object[]{20L, 1L, ProjectRole.MANAGER},
+                new Object[]{20L, 5L, ProjectRole.TEAM_MEMBER}));
+        index.rebuild();
+    }
+
+    @Nested
+    @DisplayName("lookups")
+    class LookupTests {
+        @Test
+        void membersOfProjectsFiltersByCallerRole() {
+            assertThat(index.membersOfProjectsOf(1L, ProjectRole.MANAGER)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+            assertThat(index.membersOfProjectsOf(2L, ProjectRole.TEAM_LEADER)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+            assertThat(index.membersOfProjectsOf(3L, ProjectRole.TEAM_LEADER)).isEmpty();
+            assertThat(index.membersOfProjectsOf(5L)).containsExactlyInAnyOrder(1L, 5L);
+        }
+
+        @Test
+        void sharesProjectOnlyThroughGivenRole() {
+            assertThat(index.sharesProject(2L, 3L, ProjectRole.TEAM_LEADER)).isTrue();
+            assertThat(index.sharesProject(2L, 5L, ProjectRole.TEAM_LEADER)).isFalse();
+            assertThat(index.sharesProject(3L, 4L, ProjectRole.TEAM_LEADER)).isFalse();
+        }
+
+        @Test
+        void lookupsDoNotQueryAfterLoad() {
+            index.membersOfProjectsOf(1L);
+            index.sharesProject(1L, 5L, ProjectRole.MANAGER);
+            verify(assignmentRepository, times(1)).findAllMembershipRows();
+        }
+    }
+
+    @Nested
+    @DisplayName("updates")
+    class UpdateTests {
+        @Test
+        void onAssignedAddsMembership() {
+            index.onAssigned(20L, 6L, ProjectRole.TEAM_LEADER);
+            assertThat(index.membersOfProjectsOf(6L, ProjectRole.TEAM_LEADER)).containsExactlyInAnyOrder(1L, 5L, 6L);
+            assertThat(index.assignmentCount()).isEqualTo(7);
+        }
+
+        @Test
+        void onUserRemovedDropsUserEverywhere() {
+            index.onUserRemoved(1L);
+            assertThat(index.membersOf(10L)).doesNotContainKey(1L);
+            assertThat(index.membersOf(20L)).doesNotContainKey(1L);
+            assertThat(index.projectsOf(1L)).isEmpty();
+        }
+
+        @Test
+        void onProjectDeletedDropsProjectForAllMembers() {
+            index.onProjectDeleted(20L);
+            assertThat(index.projectCount()).isEqualTo(1);
+            assertThat(index.projectsOf(5L)).isEmpty();
+            assertThat(index.projectsOf(1L)).containsOnlyKeys(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("reloads")
+    class ReloadTests {
+        @Test
+        void reloadsOnlyWhenTheTableVersionMoved() {
+            when(assignmentRepository.findMembershipVersion()).thenReturn(List.<Object[]>of(new Object[]{6L, 4200L}));
+
+            index.checkForChanges();
+            index.checkForChanges();
+
+            verify(assignmentRepository, times(2)).findAllMembershipRows();
+        }
+
+        @Test
+        void keepsChangesCommittedWhileTheRowsAreRead() {
+            when(assignmentRepository.findAllMembershipRows()).thenAnswer(inv -> {
+                index.onUserRemoved(1L);
+                return List.of(new Object[]{10L, 1L, ProjectRole.MANAGER}, new Object[]{10L, 2L, ProjectRole.TEAM_LEADER});
+            });
+
+            index.rebuild();
+
+            assertThat(index.projectsOf(1L)).isEmpty();
+            assertThat(index.membersOf(10L)).containsOnlyKeys(2L);
+        }
+    }
+}
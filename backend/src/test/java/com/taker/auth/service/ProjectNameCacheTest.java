@@ -0,0 +1,79 @@
+package com.taker.auth.service;
+
+import com.taker.auth.entity.Project;
+import com.taker.auth.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectNameCacheTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectNameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProjectNameCache(projectRepository);
+    }
+
+    private static Project project(long id, String name) {
+        Project p = new Project(name, "Active", 0);
+        p.setId(id);
+        return p;
+    }
+
+    @Nested
+    @DisplayName("idOf")
+    class IdOfTests {
+        @Test
+        void queriesOnceThenServesFromCache() {
+            when(projectRepository.findByName("Alpha")).thenReturn(Optional.of(project(10L, "Alpha")));
+
+            assertThat(cache.idOf("Alpha")).contains(10L);
+            assertThat(cache.idOf("Alpha")).contains(10L);
+
+            verify(projectRepository, times(1)).findByName("Alpha");
+        }
+
+        @Test
+        void doesNotCacheUnknownNames() {
+            when(projectRepository.findByName("New")).thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(project(30L, "New")));
+
+            assertThat(cache.idOf("New")).isEmpty();
+            assertThat(cache.idOf("New")).contains(30L);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class InvalidationTests {
+        @Test
+        void deleteEvictsEntryAndCreateRecordsIt() {
+            when(projectRepository.findByName("Alpha")).thenReturn(Optional.of(project(10L, "Alpha")))
+                    .thenReturn(Optional.empty());
+            cache.idOf("Alpha");
+
+            cache.onProjectDeleted(10L);
+            assertThat(cache.idOf("Alpha")).isEmpty();
+
+            cache.onProjectCreated("Alpha", 11L);
+            assertThat(cache.idOf("Alpha")).contains(11L);
+            verify(projectRepository, times(2)).findByName("Alpha");
+        }
+    }
+}
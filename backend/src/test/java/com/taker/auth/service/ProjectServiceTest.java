@@ -1,9 +1,13 @@
 package com.taker.auth.service;
 
+import com.taker.auth.dto.CreateProjectRequest;
 import com.taker.auth.dto.ProjectDto;
 import com.taker.auth.entity.Project;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.exception.AuthException;
 import com.taker.auth.exception.NotFoundException;
 import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,13 +17,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectServiceTest {
@@ -27,6 +36,21 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    @Mock
+    private CascadeDeleter cascadeDeleter;
+
+    @Mock
+    private ProjectNameCache nameCache;
+
+    @Mock
+    private TaskStatusCountRepository taskStatusCountRepository;
+
+    @Mock
+    private ChangeEventHub changeEventHub;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -69,6 +93,95 @@ class ProjectServiceTest {
             assertThat(result.get(1).getProgress()).isEqualTo(100);
             verify(projectRepository).findAll();
         }
+
+        @Test
+        void derivesProgressFromTaskCountersInOneQuery() {
+            Project p1 = new Project("Alpha", "Active", 90);
+            p1.setId(1L);
+            Project p2 = new Project("Beta", "Active", 40);
+            p2.setId(2L);
+            when(projectRepository.findAll()).thenReturn(List.of(p1, p2));
+            when(taskStatusCountRepository.sumByProjectIdInGroupByStatus(List.of(1L, 2L))).thenReturn(List.of(
+                    new Object[]{1L, TaskStatus.NEED_TO_START.getCode(), 2L},
+                    new Object[]{1L, TaskStatus.ONGOING.getCode(), 1L},
+                    new Object[]{1L, TaskStatus.COMPLETED.getCode(), 1L}));
+
+            List<ProjectDto> result = projectService.findAll();
+
+            assertThat(result.get(0).getProgress()).isEqualTo(25);
+            assertThat(result.get(1).getProgress()).as("no tasks: stored progress").isEqualTo(40);
+        }
+
+        @Test
+        void readsCountersInChunksForLongLists() {
+            List<Project> projects = new ArrayList<>();
+            for (long id = 1; id <= 2 * UserSummaryAssembler.CHUNK_SIZE + 1; id++) {
+                Project p = new Project("P" + id, "Active", 0);
+                p.setId(id);
+                projects.add(p);
+            }
+            when(projectRepository.findAll()).thenReturn(projects);
+
+            assertThat(projectService.findAll()).hasSize(projects.size());
+            verify(taskStatusCountRepository, times(3)).sumByProjectIdInGroupByStatus(anyCollection());
+        }
+
+        @Test
+        void pagesByIdWhenLimitGiven() {
+            Project p3 = new Project("Gamma", "Active", 0);
+            p3.setId(3L);
+            when(projectRepository.findPage(org.mockito.ArgumentMatchers.eq(2L), any())).thenReturn(List.of(p3));
+
+            List<ProjectDto> result = projectService.findAll(2L, 1);
+
+            assertThat(result).extracting(ProjectDto::getId).containsExactly(3L);
+            verify(projectRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("progress")
+    class ProgressTests {
+        @Test
+        void roundsDownAndClamps() {
+            assertThat(ProjectService.progress(3, 2, 0)).isEqualTo(66);
+            assertThat(ProjectService.progress(4, 4, 0)).isEqualTo(100);
+            assertThat(ProjectService.progress(2, 5, 0)).isEqualTo(100);
+            assertThat(ProjectService.progress(0, 0, 70)).isEqualTo(70);
+        }
+    }
+
+    @Nested
+    @DisplayName("create")
+    class CreateTests {
+        @Test
+        void rejectsDuplicateName() {
+            when(projectRepository.findByName("Alpha")).thenReturn(Optional.of(new Project("Alpha", "Active", 0)));
+            CreateProjectRequest request = new CreateProjectRequest();
+            request.setName(" Alpha ");
+
+            org.assertj.core.api.Assertions.assertThatThrownBy(() -> projectService.create(request))
+                    .isInstanceOf(AuthException.class)
+                    .hasMessageContaining("already exists");
+            verify(projectRepository, never()).save(any());
+        }
+
+        @Test
+        void savesAndRecordsNameInCache() {
+            when(projectRepository.findByName("Alpha")).thenReturn(Optional.empty());
+            when(projectRepository.save(any(Project.class))).thenAnswer(inv -> {
+                Project p = inv.getArgument(0);
+                p.setId(3L);
+                return p;
+            });
+            CreateProjectRequest request = new CreateProjectRequest();
+            request.setName("Alpha");
+
+            ProjectDto result = projectService.create(request);
+
+            assertThat(result.getId()).isEqualTo(3L);
+            verify(nameCache).onProjectCreated("Alpha", 3L);
+        }
     }
 
     @Nested
@@ -80,7 +193,10 @@ class ProjectServiceTest {
 
             projectService.delete(1L);
 
-            verify(projectRepository).deleteById(1L);
+            verify(cascadeDeleter).deleteProject(1L);
+            verify(membershipIndex).onProjectDeleted(1L);
+            verify(nameCache).onProjectDeleted(1L);
+            verify(changeEventHub).resync(anyCollection());
         }
 
         @Test
@@ -90,7 +206,7 @@ class ProjectServiceTest {
             org.assertj.core.api.Assertions.assertThatThrownBy(() -> projectService.delete(99L))
                     .isInstanceOf(NotFoundException.class)
                     .hasMessageContaining("Project not found");
-            verify(projectRepository, never()).deleteById(anyLong());
+            verify(cascadeDeleter, never()).deleteProject(anyLong());
         }
     }
 }
@@ -0,0 +1,198 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.SyncDto;
+import com.taker.auth.dto.TaskDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.SyncJdbcRepository;
+import com.taker.auth.repository.SyncJdbcRepository.Tombstone;
+import com.taker.auth.repository.TaskRepository;
+import com.taker.auth.repository.UserRepository;
+import com.taker.auth.util.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SyncJdbcRepository syncJdbcRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private UserSummaryAssembler summaryAssembler;
+
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    private SyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncService(taskRepository, assignmentRepository, userRepository, syncJdbcRepository,
+                projectService, summaryAssembler, membershipIndex, 100, 30);
+    }
+
+    private User user(long id, String email, Role role) {
+        User u = new User("User " + id, email, null, "hash", role);
+        u.setId(id);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(u));
+        return u;
+    }
+
+    private SyncDto syncAs(String email, Long since) {
+        try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+            security.when(SecurityUtils::currentUserEmail).thenReturn(email);
+            return service.changesSince(since);
+        }
+    }
+
+    @Nested
+    @DisplayName("changesSince")
+    class ChangesSinceTests {
+        @Test
+        void withoutVersionAsksForReloadAndReturnsWatermark() {
+            user(1L, "admin@example.com", Role.ADMIN);
+            when(syncJdbcRepository.snapshotWatermark()).thenReturn(900L);
+
+            SyncDto dto = syncAs("admin@example.com", null);
+
+            assertThat(dto.isFull()).isTrue();
+            assertThat(dto.getVersion()).isEqualTo(900L);
+            assertThat(dto.getTasks()).isEmpty();
+            verify(taskRepository, never()).findVisibleDtosChangedSince(any(), anyBoolean(), anyBoolean(), any(),
+                    anyCollection(), anyLong(), any());
+        }
+
+        @Test
+        void versionBehindPurgedTombstonesAsksForReload() {
+            user(1L, "admin@example.com", Role.ADMIN);
+            when(syncJdbcRepository.snapshotWatermark()).thenReturn(900L);
+            when(syncJdbcRepository.purgedThrough()).thenReturn(500L);
+
+            assertThat(syncAs("admin@example.com", 500L).isFull()).isTrue();
+            verify(syncJdbcRepository, never()).findTombstonesSince(anyLong(), Mockito.anyInt());
+        }
+
+        @Test
+        void adminGetsChangedRowsDeletedIdsAndAffectedProjectsAndUsers() {
+            user(1L, "admin@example.com", Role.ADMIN);
+            when(syncJdbcRepository.snapshotWatermark()).thenReturn(900L);
+            when(syncJdbcRepository.findTombstonesSince(600L, 101)).thenReturn(List.of(
+                    new Tombstone("task", 40L, 5L, 7L, 610L),
+                    new Tombstone("assignment", 3L, 9L, 8L, 620L),
+                    new Tombstone("project", 9L, 9L, null, 620L)));
+            when(assignmentRepository.findRowsChangedSince(600L)).thenReturn(List.<Object[]>of(
+                    new Object[]{11L, 5L, 12L, ProjectRole.TEAM_MEMBER}));
+            TaskDto task = new TaskDto(41L, "Ship", TaskStatus.ONGOING, null, null, 12L, "User 12", 5L, "Alpha");
+            when(taskRepository.findVisibleDtosChangedSince(eq(1L), eq(true), eq(false), eq(null), anyCollection(),
+                    eq(600L), any())).thenReturn(List.of(task));
+            when(userRepository.findIdsChangedSince(600L)).thenReturn(List.of(12L));
+            User u7 = new User("User 7", "u7@example.com", null, "hash", Role.MEMBER);
+            u7.setId(7L);
+            User u8 = new User("User 8", "u8@example.com", null, "hash", Role.MEMBER);
+            u8.setId(8L);
+            User u12 = new User("User 12", "u12@example.com", null, "hash", Role.MEMBER);
+            u12.setId(12L);
+            when(userRepository.findAllWithPositionByIdIn(List.of(7L, 8L, 12L))).thenReturn(List.of(u7, u8, u12));
+
+            SyncDto dto = syncAs("admin@example.com", 600L);
+
+            assertThat(dto.isFull()).isFalse();
+            assertThat(dto.getVersion()).isEqualTo(900L);
+            assertThat(dto.getTasks()).containsExactly(task);
+            assertThat(dto.getDeleted().getTasks()).containsExactly(40L);
+            assertThat(dto.getDeleted().getAssignments()).containsExactly(3L);
+            assertThat(dto.getDeleted().getProjects()).containsExactly(9L);
+            assertThat(dto.getAssignments()).singleElement()
+                    .satisfies(a -> assertThat(a.getProjectRole()).isEqualTo("TEAM_MEMBER"));
+            verify(projectService).findChangedSince(600L, Set.of(5L));
+            verify(summaryAssembler).toSummaries(List.of(u7, u8, u12));
+        }
+
+        @Test
+        void memberWhoseProjectGainedSomeoneAsksForReload() {
+            user(7L, "member@example.com", Role.MEMBER);
+            when(syncJdbcRepository.snapshotWatermark()).thenReturn(900L);
+            when(syncJdbcRepository.findTombstonesSince(600L, 101)).thenReturn(List.of());
+            when(assignmentRepository.findRowsChangedSince(600L)).thenReturn(List.<Object[]>of(
+                    new Object[]{11L, 5L, 12L, ProjectRole.TEAM_MEMBER}));
+            when(membershipIndex.projectsOf(7L)).thenReturn(Map.of(5L, ProjectRole.TEAM_MEMBER));
+
+            SyncDto dto = syncAs("member@example.com", 600L);
+
+            assertThat(dto.isFull()).isTrue();
+            verify(taskRepository, never()).findVisibleDtosChangedSince(any(), anyBoolean(), anyBoolean(), any(),
+                    anyCollection(), anyLong(), any());
+        }
+
+        @Test
+        void teamLeaderOnlyGetsUsersFromTheirTeams() {
+            user(4L, "lead@example.com", Role.TEAM_LEADER);
+            when(syncJdbcRepository.snapshotWatermark()).thenReturn(900L);
+            when(syncJdbcRepository.findTombstonesSince(600L, 101)).thenReturn(List.of());
+            when(assignmentRepository.findRowsChangedSince(600L)).thenReturn(List.of());
+            when(membershipIndex.projectsOf(4L)).thenReturn(Map.of(5L, ProjectRole.TEAM_LEADER));
+            when(taskRepository.findVisibleDtosChangedSince(eq(4L), eq(false), eq(true), eq(ProjectRole.TEAM_LEADER),
+                    anyCollection(), eq(600L), any())).thenReturn(List.of());
+            when(userRepository.findIdsChangedSince(600L)).thenReturn(List.of(8L, 20L));
+            when(membershipIndex.membersOfProjectsOf(4L, ProjectRole.TEAM_LEADER)).thenReturn(new HashSet<>(Set.of(8L)));
+
+            syncAs("lead@example.com", 600L);
+
+            verify(userRepository).findAllWithPositionByIdIn(List.of(8L));
+        }
+    }
+
+    @Nested
+    @DisplayName("purgeTombstones")
+    class PurgeTests {
+        @Test
+        void purgesTombstonesOlderThanRetention() {
+            when(syncJdbcRepository.purgeDeletedBefore(any())).thenReturn(3);
+
+            assertThat(service.purgeTombstones()).isEqualTo(3);
+            verify(syncJdbcRepository).purgeDeletedBefore(Mockito.argThat(cutoff ->
+                    cutoff.isBefore(Instant.now().minusSeconds(29L * 24 * 3600))
+                            && cutoff.isAfter(Instant.now().minusSeconds(31L * 24 * 3600))));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.taker.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCounterReconcilerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry registry;
+    private TaskCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        reconciler = new TaskCounterReconciler(jdbcTemplate, TransactionOperations.withoutTransaction(), registry);
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class ReconcileTests {
+        @Test
+        @SuppressWarnings("unchecked")
+        void rebuildsAndReportsWhenCountersDrifted() throws Exception {
+            // First of 3 drifted rows: user 4, project 7, completed, 5 tasks but the counter says 6.
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(4L);
+            when(rs.getLong(2)).thenReturn(7L);
+            when(rs.getShort(3)).thenReturn((short) 2);
+            when(rs.getLong(4)).thenReturn(5L);
+            when(rs.getLong(5)).thenReturn(6L);
+            when(rs.getLong(6)).thenReturn(3L);
+            when(jdbcTemplate.query(eq(TaskCounterReconciler.DRIFT_SQL), any(RowMapper.class)))
+                    .thenAnswer(inv -> List.of(((RowMapper<?>) inv.getArgument(1)).mapRow(rs, 0)));
+
+            TaskCounterReconciler.Result result = reconciler.reconcile();
+
+            assertThat(result.driftRows()).isEqualTo(3);
+            assertThat(result.sample()).containsExactly(new TaskCounterReconciler.Drift(4L, 7L, (short) 2, 5L, 6L));
+            assertThat(result.rebuilt()).isTrue();
+            assertThat(registry.get("task.counters.drift").gauge().value()).isEqualTo(3.0);
+            verify(jdbcTemplate).execute("lock table tasks in share row exclusive mode");
+            verify(jdbcTemplate).update("delete from task_status_counts");
+            verify(jdbcTemplate).update(startsWith("insert into task_status_counts"));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void leavesCountersAloneWhenTheyMatch() {
+            when(jdbcTemplate.query(eq(TaskCounterReconciler.DRIFT_SQL), any(RowMapper.class))).thenReturn(List.of());
+
+            TaskCounterReconciler.Result result = reconciler.reconcile();
+
+            assertThat(result.driftRows()).isZero();
+            assertThat(result.rebuilt()).isFalse();
+            verify(jdbcTemplate, never()).update(anyString());
+            verify(jdbcTemplate, never()).execute(anyString());
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.taker.auth.service;
 
+import com.taker.auth.dto.BatchUpdateTaskStatusRequest;
 import com.taker.auth.dto.CreateTaskRequest;
+import com.taker.auth.dto.TaskBatchResult;
+import com.taker.auth.dto.TaskDto;
+import com.taker.auth.dto.TaskFilter;
 import com.taker.auth.dto.UpdateTaskStatusRequest;
 import com.taker.auth.entity.Task;
+import com.taker.auth.entity.TaskStatus;
 import com.taker.auth.entity.User;
 import com.taker.auth.exception.NotFoundException;
 import com.taker.auth.entity.Project;
 import com.taker.auth.entity.ProjectAssignment;
 import com.taker.auth.entity.ProjectRole;
 import com.taker.auth.entity.Role;
-import com.taker.auth.repository.ProjectAssignmentRepository;
 import com.taker.auth.repository.ProjectRepository;
+import com.taker.auth.repository.TaskJdbcRepository;
 import com.taker.auth.repository.TaskRepository;
 import com.taker.auth.repository.UserRepository;
 import com.taker.auth.util.SecurityUtils;
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -28,7 +34,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -47,7 +55,16 @@ class TaskServiceTest {
     private ProjectRepository projectRepository;
 
     @Mock
-    private ProjectAssignmentRepository assignmentRepository;
+    private ProjectMembershipIndex membershipIndex;
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private ChangeEventHub changeEventHub;
+
+    @Captor
+    private ArgumentCaptor<List<TaskJdbcRepository.NewTaskRow>> newRows;
 
     @InjectMocks
     private TaskService taskService;
@@ -63,7 +80,7 @@ class TaskServiceTest {
         testTask = new Task();
         testTask.setId(1L);
         testTask.setTitle("Test Task");
-        testTask.setStatus("need_to_start");
+        testTask.setStatus(TaskStatus.NEED_TO_START);
         testTask.setAssignedTo(testUser);
     }
 
@@ -84,7 +101,10 @@ class TaskServiceTest {
             var result = taskService.updateStatus(1L, req);
 
             assertThat(result.getStatus()).isEqualTo("ongoing");
-            verify(taskRepository).save(argThat(t -> "ongoing".equals(t.getStatus())));
+            verify(taskRepository).save(argThat(t -> t.getStatus() == TaskStatus.ONGOING));
+            verify(changeEventHub).tasksChanged(argThat(changes -> changes.size() == 1
+                    && changes.get(0).event().getAction().equals("updated")
+                    && changes.get(0).event().getStatus().equals("ongoing")));
             }
         }
 
@@ -141,7 +161,7 @@ class TaskServiceTest {
 
         @Test
         void normalizesNeedToStart() {
-            testTask.setStatus("ongoing");
+            testTask.setStatus(TaskStatus.ONGOING);
             UpdateTaskStatusRequest req = new UpdateTaskStatusRequest();
             req.setStatus("need_to_start");
 
@@ -240,7 +260,7 @@ class TaskServiceTest {
             Task t2 = new Task();
             t2.setId(2L);
             t2.setTitle("Second Task");
-            t2.setStatus("ongoing");
+            t2.setStatus(TaskStatus.ONGOING);
             when(taskRepository.findAll()).thenReturn(List.of(testTask, t2));
 
             var result = taskService.findAll();
@@ -316,6 +336,81 @@ class TaskServiceTest {
                 verify(taskRepository).findAll();
             }
         }
+
+        @Test
+        void memberGetsOwnTasksFromSingleProjectedQuery() {
+            TaskDto own = new TaskDto(1L, "Test Task", "need_to_start", null, null, 1L, "Test User", null, null);
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("test@example.com");
+                when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+                when(taskRepository.findVisibleDtos(eq(1L), eq(false), eq(true), isNull(), anyCollection(), isNull(),
+                        isNull(), isNull(), isNull(), isNull(), isNull(), any())).thenReturn(List.of(own));
+
+                var result = taskService.findTasksForCurrentUser();
+
+                assertThat(result).containsExactly(own);
+                verify(taskRepository, never()).findByAssignedToIdIn(any());
+            }
+        }
+
+        @Test
+        void managerVisibilityIsResolvedInSql() {
+            User manager = new User("Boss", "boss@example.com", null, "hash", Role.MANAGER);
+            manager.setId(7L);
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("boss@example.com");
+                when(userRepository.findByEmail("boss@example.com")).thenReturn(Optional.of(manager));
+                when(taskRepository.findVisibleDtos(eq(7L), eq(false), eq(false), eq(ProjectRole.MANAGER),
+                        argThat(roles -> !roles.contains(Role.ADMIN)), isNull(), isNull(),
+                        isNull(), isNull(), isNull(), isNull(), any())).thenReturn(List.of());
+
+                assertThat(taskService.findTasksForCurrentUser()).isEmpty();
+                verify(userRepository, never()).findAll();
+            }
+        }
+
+        @Test
+        void passesFiltersAndCursorToQuery() {
+            TaskFilter filter = new TaskFilter("done", 4L, 1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("test@example.com");
+                when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+                when(taskRepository.findVisibleDtos(eq(1L), eq(false), eq(true), isNull(), anyCollection(), eq(50L),
+                        eq(TaskStatus.COMPLETED), eq(4L), eq(1L), eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 12, 31)),
+                        argThat(page -> page.isPaged() && page.getPageSize() == 500))).thenReturn(List.of());
+
+                assertThat(taskService.findTasksForCurrentUser(filter, 50L, 10_000)).isEmpty();
+                verify(taskRepository, never()).findAll();
+            }
+        }
+
+        @Test
+        void unknownStatusFilterMatchesNothingWithoutQuerying() {
+            TaskFilter filter = new TaskFilter("blocked", null, null, null, null);
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("test@example.com");
+                when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+                assertThat(taskService.findTasksForCurrentUser(filter, null, null)).isEmpty();
+                verify(taskRepository, never()).findVisibleDtos(any(), anyBoolean(), anyBoolean(), any(), anyCollection(),
+                        any(), any(), any(), any(), any(), any(), any());
+            }
+        }
+
+        @Test
+        void adminGetsAllAssignedTasksWithoutLoadingUsers() {
+            User admin = new User("Admin", "admin@example.com", null, "hash", Role.ADMIN);
+            admin.setId(9L);
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("admin@example.com");
+                when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(admin));
+                when(taskRepository.findVisibleDtos(eq(9L), eq(true), eq(false), isNull(), anyCollection(), isNull(),
+                        isNull(), isNull(), isNull(), isNull(), isNull(), any())).thenReturn(List.of());
+
+                assertThat(taskService.findTasksForCurrentUser()).isEmpty();
+                verify(userRepository, never()).findAll();
+            }
+        }
     }
 
     @Nested
@@ -386,4 +481,87 @@ class TaskServiceTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("createTasks / updateStatuses")
+    class BatchTests {
+        private User leader;
+        private User teamMember;
+        private User outsider;
+
+        @BeforeEach
+        void setUpTeam() {
+            leader = new User("Leader", "leader@example.com", null, "hash", Role.TEAM_LEADER);
+            leader.setId(2L);
+            teamMember = new User("Member", "member@example.com", null, "hash", Role.MEMBER);
+            teamMember.setId(3L);
+            outsider = new User("Outsider", "outsider@example.com", null, "hash", Role.MEMBER);
+            outsider.setId(4L);
+        }
+
+        @Test
+        void createsValidItemsInOneBatchAndReportsTheRest() {
+            CreateTaskRequest ok = new CreateTaskRequest();
+            ok.setTitle("For team");
+            ok.setAssignedToId(3L);
+            ok.setStatus("in progress");
+            CreateTaskRequest forbidden = new CreateTaskRequest();
+            forbidden.setTitle("For outsider");
+            forbidden.setAssignedToId(4L);
+            CreateTaskRequest untitled = new CreateTaskRequest();
+            untitled.setTitle(" ");
+            CreateTaskRequest own = new CreateTaskRequest();
+            own.setTitle("Own");
+
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("leader@example.com");
+                when(userRepository.findByEmail("leader@example.com")).thenReturn(Optional.of(leader));
+                when(userRepository.findAllById(anyCollection())).thenReturn(List.of(teamMember, outsider));
+                when(membershipIndex.membersOfProjectsOf(2L, ProjectRole.TEAM_LEADER)).thenReturn(Set.of(2L, 3L));
+                when(taskJdbcRepository.allocateIds(2)).thenReturn(List.of(100L, 101L));
+
+                List<TaskBatchResult> results = taskService.createTasks(List.of(ok, forbidden, untitled, own));
+
+                assertThat(results).extracting(TaskBatchResult::isSuccess).containsExactly(true, false, false, true);
+                assertThat(results.get(0).getTask().getId()).isEqualTo(100L);
+                assertThat(results.get(0).getTask().getStatus()).isEqualTo("ongoing");
+                assertThat(results.get(0).getTask().getAssigneeId()).isEqualTo(3L);
+                assertThat(results.get(1).getError()).contains("cannot create");
+                assertThat(results.get(2).getError()).contains("Title");
+                assertThat(results.get(3).getTask().getAssigneeId()).isEqualTo(2L);
+                verify(taskJdbcRepository).insertAll(newRows.capture());
+                assertThat(newRows.getValue()).extracting(TaskJdbcRepository.NewTaskRow::id).containsExactly(100L, 101L);
+                verify(membershipIndex, times(1)).membersOfProjectsOf(2L, ProjectRole.TEAM_LEADER);
+                verify(taskRepository, never()).save(any());
+            }
+        }
+
+        @Test
+        void updatesAuthorizedStatusesInOneBatch() {
+            Task teamTask = new Task("Team task", TaskStatus.NEED_TO_START, null);
+            teamTask.setId(10L);
+            teamTask.setAssignedTo(teamMember);
+            Task outsiderTask = new Task("Other task", TaskStatus.NEED_TO_START, null);
+            outsiderTask.setId(11L);
+            outsiderTask.setAssignedTo(outsider);
+
+            try (MockedStatic<SecurityUtils> security = Mockito.mockStatic(SecurityUtils.class)) {
+                security.when(SecurityUtils::currentUserEmail).thenReturn("leader@example.com");
+                when(userRepository.findByEmail("leader@example.com")).thenReturn(Optional.of(leader));
+                when(taskRepository.findAllWithAssigneeAndProjectByIdIn(anyCollection())).thenReturn(List.of(teamTask, outsiderTask));
+                when(membershipIndex.membersOfProjectsOf(2L, ProjectRole.TEAM_LEADER)).thenReturn(Set.of(2L, 3L));
+
+                List<TaskBatchResult> results = taskService.updateStatuses(List.of(
+                        new BatchUpdateTaskStatusRequest.Item(10L, "done"),
+                        new BatchUpdateTaskStatusRequest.Item(11L, "done"),
+                        new BatchUpdateTaskStatusRequest.Item(99L, "done")));
+
+                assertThat(results).extracting(TaskBatchResult::isSuccess).containsExactly(true, false, false);
+                assertThat(results.get(0).getTask().getStatus()).isEqualTo("completed");
+                assertThat(results.get(2).getError()).isEqualTo("Task not found");
+                verify(taskJdbcRepository).updateStatuses(Map.of(10L, TaskStatus.COMPLETED));
+                verify(taskRepository, never()).save(any());
+            }
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.taker.auth.service;
+
+import com.taker.auth.dto.UserSummaryDto;
+import com.taker.auth.entity.ProjectRole;
+import com.taker.auth.entity.Role;
+import com.taker.auth.entity.TaskStatus;
+import com.taker.auth.entity.User;
+import com.taker.auth.repository.ProjectAssignmentRepository;
+import com.taker.auth.repository.TaskStatusCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryAssemblerTest {
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private TaskStatusCountRepository taskStatusCountRepository;
+
+    @InjectMocks
+    private UserSummaryAssembler assembler;
+
+    private User member;
+    private User leader;
+
+    @BeforeEach
+    void setUp() {
+        member = new User("Member One", "member@example.com", null, "hash", Role.MEMBER);
+        member.setId(1L);
+        leader = new User("Leader One", "leader@example.com", null, "hash", Role.TEAM_LEADER);
+        leader.setId(2L);
+    }
+
+    @Nested
+    @DisplayName("toSummaries")
+    class ToSummariesTests {
+        @Test
+        void resolvesProjectLeadsAndCountsFromBatchQueries() {
+            when(assignmentRepository.findProjectRowsByUserIds(anyCollection())).thenReturn(List.of(
+                    new Object[]{1L, 10L, "Alpha"},
+                    new Object[]{2L, 10L, "Alpha"},
+                    new Object[]{1L, 20L, "Beta"}));
+            when(assignmentRepository.findMemberNamesByProjectIdsAndRoles(anyCollection(), anyCollection())).thenReturn(List.of(
+                    new Object[]{10L, ProjectRole.MANAGER, "Sarah"},
+                    new Object[]{10L, ProjectRole.TEAM_LEADER, "Leader One"}));
+            when(taskStatusCountRepository.sumByUserIdInAndStatus(anyCollection(), eq(TaskStatus.COMPLETED.getCode())))
+                    .thenReturn(List.<Object[]>of(new Object[]{1L, 4L}));
+
+            List<UserSummaryDto> result = assembler.toSummaries(List.of(member, leader));
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getCurrentProject()).isEqualTo("Alpha");
+            assertThat(result.get(0).getManagerName()).isEqualTo("Sarah");
+            assertThat(result.get(0).getTeamLeaderName()).isEqualTo("Leader One");
+            assertThat(result.get(0).getProjectsCompletedCount()).isEqualTo(4);
+            assertThat(result.get(1).getRole()).isEqualTo("team_leader");
+            assertThat(result.get(1).getProjectsCompletedCount()).isZero();
+        }
+
+        @Test
+        void queryCountDoesNotGrowWithUsers() {
+            List<User> users = new ArrayList<>();
+            for (long i = 1; i <= 500; i++) {
+                User u = new User("User " + i, "u" + i + "@example.com", null, "hash", Role.MEMBER);
+                u.setId(i);
+                users.add(u);
+            }
+
+            List<UserSummaryDto> result = assembler.toSummaries(users);
+
+            assertThat(result).hasSize(500);
+            verify(assignmentRepository, times(1)).findProjectRowsByUserIds(anyCollection());
+            verify(taskStatusCountRepository, times(1)).sumByUserIdInAndStatus(anyCollection(), anyShort());
+            verify(assignmentRepository, never()).findMemberNamesByProjectIdsAndRoles(anyCollection(), anyCollection());
+            verify(assignmentRepository, never()).findByUserId(any());
+        }
+
+        @Test
+        void returnsEmptyListForNoUsers() {
+            assertThat(assembler.toSummaries(List.of())).isEmpty();
+            verify(assignmentRepository, never()).findProjectRowsByUserIds(anyCollection());
+        }
+    }
+}